@@ -32,6 +32,10 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        // android.util.Log is a no-op in local unit tests
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
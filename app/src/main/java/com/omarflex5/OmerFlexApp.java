@@ -9,6 +9,8 @@ import androidx.work.NetworkType;
 import androidx.work.OneTimeWorkRequest;
 import androidx.work.WorkManager;
 
+import com.omarflex5.data.network.NetworkReplay;
+import com.omarflex5.worker.ClearanceRefreshWorker;
 import com.omarflex5.worker.ContentDiscoveryWorker;
 
 import java.time.LocalDate;
@@ -22,7 +24,9 @@ public class OmerFlexApp extends Application {
     @Override
     public void onCreate() {
         super.onCreate();
+        NetworkReplay.installIfConfigured(this);
         checkAndScheduleFeeder();
+        ClearanceRefreshWorker.schedule(this);
     }
 
     private void checkAndScheduleFeeder() {
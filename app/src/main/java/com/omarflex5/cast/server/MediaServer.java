@@ -7,7 +7,6 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -33,6 +32,12 @@ public class MediaServer extends NanoHTTPD {
     private String currentVideoUrl;
     private Map<String, String> currentHeaders;
 
+    private final okhttp3.OkHttpClient proxyClient = com.omarflex5.data.network.HttpEngine.getInstance()
+            .newBuilder(com.omarflex5.data.network.HttpEngine.Priority.USER)
+            .connectTimeout(15, java.util.concurrent.TimeUnit.SECONDS)
+            .readTimeout(15, java.util.concurrent.TimeUnit.SECONDS)
+            .build();
+
     private MediaServer(int port) {
         super("0.0.0.0", port); // Explicitly bind to all interfaces, not just localhost
     }
@@ -155,38 +160,37 @@ public class MediaServer extends NanoHTTPD {
     }
 
     private Response proxyRequest(IHTTPSession session, String remoteUrl) {
-        HttpURLConnection connection = null;
+        okhttp3.Response upstream = null;
         try {
-            URL url = new URL(remoteUrl);
-            connection = (HttpURLConnection) url.openConnection();
-
             // Handle HEAD requests separately
             boolean isHead = Method.HEAD.equals(session.getMethod());
-            connection.setRequestMethod(isHead ? "HEAD" : "GET");
-
-            connection.setConnectTimeout(15000);
-            connection.setReadTimeout(15000);
-            connection.setInstanceFollowRedirects(true);
+            okhttp3.Request.Builder builder = new okhttp3.Request.Builder().url(remoteUrl);
+            if (isHead) {
+                builder.head();
+            }
 
             // Inject Headers
             if (currentHeaders != null) {
                 for (Map.Entry<String, String> header : currentHeaders.entrySet()) {
-                    connection.setRequestProperty(header.getKey(), header.getValue());
+                    builder.header(header.getKey(), header.getValue());
                 }
             }
 
             // Forward Range header for seeking
             String range = session.getHeaders().get("range");
             if (range != null) {
-                connection.setRequestProperty("Range", range);
+                builder.header("Range", range);
             }
 
-            int responseCode = connection.getResponseCode();
+            // Shared engine: HLS segments for the same host reuse one warm connection
+            upstream = proxyClient.newCall(builder.build()).execute();
+            int responseCode = upstream.code();
 
             // Handle Content
-            InputStream inputStream = (responseCode >= 400) ? connection.getErrorStream() : connection.getInputStream();
-            String contentType = connection.getContentType();
-            long contentLength = connection.getContentLengthLong();
+            okhttp3.ResponseBody body = upstream.body();
+            InputStream inputStream = body != null ? body.byteStream() : new java.io.ByteArrayInputStream(new byte[0]);
+            String contentType = upstream.header("Content-Type");
+            long contentLength = body != null ? body.contentLength() : -1;
 
             // 1. Force valid MIME type for DLNA
             if (contentType == null || contentType.equals("application/octet-stream")) {
@@ -199,6 +203,7 @@ public class MediaServer extends NanoHTTPD {
             // 2. Rewrite HLS Manifests (only on GET)
             if (!isHead && (contentType.contains("mpegurl") || remoteUrl.endsWith(".m3u8"))) {
                 String manifest = readStreamToString(inputStream);
+                upstream.close();
                 String processedManifest = rewriteHlsManifest(manifest, remoteUrl);
                 return createCorsResponse(Response.Status.OK, "application/vnd.apple.mpegurl", processedManifest);
             }
@@ -208,6 +213,7 @@ public class MediaServer extends NanoHTTPD {
             if (isHead) {
                 response = newFixedLengthResponse(Response.Status.lookup(responseCode), contentType, "");
             } else {
+                // NanoHTTPD closes the stream once sent, which releases the connection
                 if (contentLength > 0) {
                     // Use fixed length if known (better for seeking)
                     response = newFixedLengthResponse(Response.Status.lookup(responseCode), contentType, inputStream,
@@ -223,12 +229,12 @@ public class MediaServer extends NanoHTTPD {
                 response.addHeader("Content-Length", String.valueOf(contentLength));
             }
 
-            String contentRange = connection.getHeaderField("Content-Range");
+            String contentRange = upstream.header("Content-Range");
             if (contentRange != null) {
                 response.addHeader("Content-Range", contentRange);
             }
 
-            String acceptRanges = connection.getHeaderField("Accept-Ranges");
+            String acceptRanges = upstream.header("Accept-Ranges");
             if (acceptRanges != null) {
                 response.addHeader("Accept-Ranges", acceptRanges);
             } else {
@@ -236,12 +242,16 @@ public class MediaServer extends NanoHTTPD {
                 response.addHeader("Accept-Ranges", "bytes");
             }
 
+            if (isHead) {
+                upstream.close();
+            }
+
             return addCorsHeaders(response);
 
         } catch (Exception e) {
             Log.e(TAG, "Proxy error for " + remoteUrl, e);
-            if (connection != null)
-                connection.disconnect();
+            if (upstream != null)
+                upstream.close();
             return newFixedLengthResponse(Response.Status.INTERNAL_ERROR, "text/plain", "Proxy Error");
         }
     }
@@ -12,17 +12,21 @@ import androidx.sqlite.db.SupportSQLiteDatabase;
 import com.omarflex5.data.local.dao.EpisodeDao;
 import com.omarflex5.data.local.dao.MediaDao;
 import com.omarflex5.data.local.dao.MediaSourceDao;
+import com.omarflex5.data.local.dao.SearchCacheDao;
 import com.omarflex5.data.local.dao.SearchQueueDao;
 import com.omarflex5.data.local.dao.SeasonDao;
 import com.omarflex5.data.local.dao.ServerDao;
 import com.omarflex5.data.local.dao.UserMediaStateDao;
 import com.omarflex5.data.local.entity.EpisodeEntity;
 import com.omarflex5.data.local.entity.MediaEntity;
+import com.omarflex5.data.local.entity.MediaFtsEntity;
 import com.omarflex5.data.local.entity.MediaSourceEntity;
+import com.omarflex5.data.local.entity.SearchCacheEntity;
 import com.omarflex5.data.local.entity.SearchQueueEntity;
 import com.omarflex5.data.local.entity.SeasonEntity;
 import com.omarflex5.data.local.entity.ServerEntity;
 import com.omarflex5.data.local.entity.UserMediaStateEntity;
+import com.omarflex5.util.ArabicFolding;
 
 import java.util.concurrent.Executors;
 
@@ -33,8 +37,10 @@ import java.util.concurrent.Executors;
         ServerEntity.class,
         MediaSourceEntity.class,
         SearchQueueEntity.class,
-        UserMediaStateEntity.class
-}, version = 10, exportSchema = true)
+        UserMediaStateEntity.class,
+        SearchCacheEntity.class,
+        MediaFtsEntity.class
+}, version = 13, exportSchema = true)
 @TypeConverters({ Converters.class })
 public abstract class AppDatabase extends RoomDatabase {
 
@@ -56,6 +62,8 @@ public abstract class AppDatabase extends RoomDatabase {
 
     public abstract UserMediaStateDao userMediaStateDao();
 
+    public abstract SearchCacheDao searchCacheDao();
+
     public static AppDatabase getInstance(Context context) {
         if (INSTANCE == null) {
             synchronized (AppDatabase.class) {
@@ -92,6 +100,12 @@ public abstract class AppDatabase extends RoomDatabase {
             }
         }
 
+        @Override
+        public void onOpen(@NonNull SupportSQLiteDatabase db) {
+            super.onOpen(db);
+            installMediaFts(db);
+        }
+
         @Override
         public void onDestructiveMigration(@NonNull SupportSQLiteDatabase db) {
             super.onDestructiveMigration(db);
@@ -104,6 +118,33 @@ public abstract class AppDatabase extends RoomDatabase {
         }
     }
 
+    /**
+     * Keep media_fts in sync with media. Triggers are created here rather than
+     * via an external-content FTS entity because the indexed titles are
+     * Arabic-folded. The insert trigger deletes first since REPLACE inserts
+     * do not fire the delete trigger.
+     */
+    private static void installMediaFts(SupportSQLiteDatabase db) {
+        String title = ArabicFolding.sqlFold("new.title");
+        String originalTitle = ArabicFolding.sqlFold("new.originalTitle");
+
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS media_fts_ai AFTER INSERT ON media BEGIN "
+                + "DELETE FROM media_fts WHERE rowid = new.id; "
+                + "INSERT INTO media_fts(rowid, title, originalTitle) VALUES (new.id, "
+                + title + ", " + originalTitle + "); END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS media_fts_au AFTER UPDATE OF title, originalTitle ON media BEGIN "
+                + "DELETE FROM media_fts WHERE rowid = old.id; "
+                + "INSERT INTO media_fts(rowid, title, originalTitle) VALUES (new.id, "
+                + title + ", " + originalTitle + "); END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS media_fts_ad AFTER DELETE ON media BEGIN "
+                + "DELETE FROM media_fts WHERE rowid = old.id; END");
+
+        // Backfill once if the index was created after media already had rows
+        db.execSQL("INSERT INTO media_fts(rowid, title, originalTitle) SELECT id, "
+                + ArabicFolding.sqlFold("title") + ", " + ArabicFolding.sqlFold("originalTitle")
+                + " FROM media WHERE NOT EXISTS (SELECT 1 FROM media_fts LIMIT 1)");
+    }
+
     /**
      * Insert the 9 default servers with their configurations.
      */
@@ -4,6 +4,7 @@ import androidx.room.TypeConverter;
 
 import com.omarflex5.data.local.entity.MediaType;
 import com.omarflex5.data.local.entity.ProcessingState;
+import com.omarflex5.data.local.entity.SearchQueueKind;
 import com.omarflex5.data.local.entity.SearchQueueStatus;
 
 /**
@@ -44,4 +45,15 @@ public class Converters {
     public static String fromSearchQueueStatus(SearchQueueStatus status) {
         return status == null ? null : status.name();
     }
+
+    // SearchQueueKind
+    @TypeConverter
+    public static SearchQueueKind toSearchQueueKind(String value) {
+        return value == null ? null : SearchQueueKind.valueOf(value);
+    }
+
+    @TypeConverter
+    public static String fromSearchQueueKind(SearchQueueKind kind) {
+        return kind == null ? null : kind.name();
+    }
 }
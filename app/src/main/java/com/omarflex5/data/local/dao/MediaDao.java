@@ -34,6 +34,12 @@ public interface MediaDao {
     @Query("SELECT * FROM media WHERE id = :id")
     LiveData<MediaEntity> getByIdLive(long id);
 
+    @Query("SELECT * FROM media WHERE id IN (:ids)")
+    List<MediaEntity> getByIds(List<Long> ids);
+
+    @Query("SELECT * FROM media WHERE tmdbId IN (:tmdbIds)")
+    List<MediaEntity> getByTmdbIds(List<Integer> tmdbIds);
+
     @Query("SELECT * FROM media WHERE tmdbId = :tmdbId")
     MediaEntity getByTmdbId(int tmdbId);
 
@@ -63,8 +69,33 @@ public interface MediaDao {
     @Query("SELECT * FROM media WHERE type = :type ORDER BY updatedAt DESC")
     LiveData<List<MediaEntity>> getAllByType(MediaType type);
 
-    @Query("SELECT * FROM media WHERE title LIKE '%' || :query || '%' OR originalTitle LIKE '%' || :query || '%'")
-    List<MediaEntity> search(String query);
+    // ==================== FULL-TEXT SEARCH ====================
+
+    /**
+     * Title search through the media_fts index. Matches whole words and word
+     * prefixes, ignoring Arabic hamza/yaa/taa-marbuta spelling and harakat.
+     */
+    default List<MediaEntity> search(String query) {
+        String match = com.omarflex5.util.ArabicFolding.toPrefixMatch(query);
+        if (match == null)
+            return new java.util.ArrayList<>();
+        return searchFts(match, 200);
+    }
+
+    @Query("SELECT media.* FROM media JOIN media_fts ON media.id = media_fts.rowid " +
+            "WHERE media_fts MATCH :match ORDER BY media.updatedAt DESC LIMIT :limit")
+    List<MediaEntity> searchFts(String match, int limit);
+
+    /**
+     * Type-ahead suggestions for the home search bar.
+     *
+     * @param match FTS expression from ArabicFolding.toPrefixMatch()
+     */
+    @androidx.room.Transaction
+    @Query("SELECT media.* FROM media JOIN media_fts ON media.id = media_fts.rowid " +
+            "WHERE media_fts MATCH :match " +
+            "ORDER BY CASE WHEN media.tmdbId IS NULL THEN 1 ELSE 0 END, media.updatedAt DESC LIMIT :limit")
+    LiveData<List<com.omarflex5.data.local.model.MediaWithUserState>> typeAheadLiveData(String match, int limit);
 
     @Query("SELECT * FROM media WHERE isEnriched = 0 LIMIT :limit")
     List<MediaEntity> getUnenriched(int limit);
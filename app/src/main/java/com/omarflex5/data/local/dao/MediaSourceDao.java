@@ -72,6 +72,10 @@ public interface MediaSourceDao {
     @Query("SELECT * FROM media_sources WHERE externalUrl = :url AND serverId = :serverId LIMIT 1")
     MediaSourceEntity findByExternalUrlAndServer(String url, long serverId);
 
+    // Bulk variant for syncing a whole search page at once
+    @Query("SELECT * FROM media_sources WHERE serverId = :serverId AND externalUrl IN (:urls)")
+    List<MediaSourceEntity> findByExternalUrlsAndServer(List<String> urls, long serverId);
+
     // Find by Media ID and Server ID
     @Query("SELECT * FROM media_sources WHERE mediaId = :mediaId AND serverId = :serverId LIMIT 1")
     MediaSourceEntity findByMediaAndServer(long mediaId, long serverId);
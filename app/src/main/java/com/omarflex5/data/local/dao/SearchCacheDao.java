@@ -0,0 +1,27 @@
+package com.omarflex5.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.omarflex5.data.local.entity.SearchCacheEntity;
+
+@Dao
+public interface SearchCacheDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsert(SearchCacheEntity entry);
+
+    @Query("SELECT * FROM search_cache WHERE cacheKey = :cacheKey")
+    SearchCacheEntity get(String cacheKey);
+
+    @Query("SELECT * FROM search_cache WHERE query = :query ORDER BY updatedAt DESC LIMIT 1")
+    SearchCacheEntity getLatestForQuery(String query);
+
+    @Query("DELETE FROM search_cache WHERE updatedAt < :olderThan")
+    void deleteOlderThan(long olderThan);
+
+    @Query("DELETE FROM search_cache")
+    void deleteAll();
+}
@@ -6,9 +6,11 @@ import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
 
 import com.omarflex5.data.local.entity.SearchQueueEntity;
+import com.omarflex5.data.local.entity.SearchQueueKind;
 import com.omarflex5.data.local.entity.SearchQueueStatus;
 
 import java.util.List;
@@ -60,4 +62,32 @@ public interface SearchQueueDao {
 
     @Query("DELETE FROM search_queue WHERE createdAt < :olderThan")
     void deleteOlderThan(long olderThan);
+
+    @Query("SELECT * FROM search_queue WHERE query = :query AND kind = :kind AND status = 'PENDING' ORDER BY createdAt ASC")
+    List<SearchQueueEntity> getPendingByKind(String query, SearchQueueKind kind);
+
+    @Query("SELECT * FROM search_queue WHERE kind = :kind AND status = :status ORDER BY createdAt ASC")
+    List<SearchQueueEntity> getByKindAndStatus(SearchQueueKind kind, SearchQueueStatus status);
+
+    @Query("UPDATE search_queue SET status = 'PENDING' WHERE kind = :kind AND status = 'IN_PROGRESS'")
+    void resetInProgress(SearchQueueKind kind);
+
+    @Query("UPDATE search_queue SET status = 'DONE', resultCount = :resultCount, processedAt = :timestamp "
+            + "WHERE query = :query AND serverId = :serverId AND url = :url AND kind = :kind")
+    void markDoneByUrl(String query, long serverId, String url, SearchQueueKind kind, int resultCount,
+            long timestamp);
+
+    @Query("DELETE FROM search_queue WHERE query = :query AND kind = :kind")
+    void deleteByQueryAndKind(String query, SearchQueueKind kind);
+
+    /**
+     * Replace all pagination cursors of a query in one transaction.
+     */
+    @Transaction
+    default void replaceCursors(String query, List<SearchQueueEntity> cursors) {
+        deleteByQueryAndKind(query, SearchQueueKind.PAGE);
+        if (!cursors.isEmpty()) {
+            insertAll(cursors);
+        }
+    }
 }
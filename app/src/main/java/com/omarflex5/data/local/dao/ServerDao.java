@@ -69,6 +69,9 @@ public interface ServerDao {
     @Query("UPDATE servers SET headersJson = :headers, updatedAt = :timestamp WHERE id = :id")
     void updateHeaders(long id, String headers, long timestamp);
 
+    @Query("UPDATE servers SET latencyStatsJson = :stats WHERE id = :id")
+    void updateLatencyStats(long id, String stats);
+
     @Query("UPDATE servers SET isEnabled = :enabled, updatedAt = :timestamp WHERE name = :name")
     void updateEnabled(String name, boolean enabled, long timestamp);
 
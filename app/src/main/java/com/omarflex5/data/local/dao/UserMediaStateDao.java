@@ -8,6 +8,8 @@ import androidx.room.Query;
 import androidx.room.Transaction;
 import com.omarflex5.data.local.entity.UserMediaStateEntity;
 
+import java.util.List;
+
 @Dao
 public interface UserMediaStateDao {
 
@@ -21,6 +23,9 @@ public interface UserMediaStateDao {
     @Query("SELECT * FROM user_media_state WHERE mediaId = :mediaId AND episodeId IS NULL")
     UserMediaStateEntity getStateForMediaSync(long mediaId);
 
+    @Query("SELECT * FROM user_media_state WHERE mediaId IN (:mediaIds) AND episodeId IS NULL")
+    List<UserMediaStateEntity> getStatesForMediaSync(List<Long> mediaIds);
+
     // Get Specific Episode State
     @Query("SELECT * FROM user_media_state WHERE episodeId = :episodeId")
     UserMediaStateEntity getStateForEpisodeSync(long episodeId);
@@ -0,0 +1,52 @@
+package com.omarflex5.data.local.entity;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text index over media titles for instant local search.
+ *
+ * rowid is media.id. Titles are stored Arabic-folded (see ArabicFolding),
+ * so this is not an external-content table: rows are written by the
+ * triggers installed in AppDatabase, never through a DAO.
+ */
+@Fts4(tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = { 2, 3 })
+@Entity(tableName = "media_fts")
+public class MediaFtsEntity {
+
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    private long rowid;
+
+    private String title;
+    private String originalTitle;
+
+    // ========== Getters and Setters ==========
+
+    public long getRowid() {
+        return rowid;
+    }
+
+    public void setRowid(long rowid) {
+        this.rowid = rowid;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getOriginalTitle() {
+        return originalTitle;
+    }
+
+    public void setOriginalTitle(String originalTitle) {
+        this.originalTitle = originalTitle;
+    }
+}
@@ -0,0 +1,87 @@
+package com.omarflex5.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Cached, deduplicated search results for a normalized query.
+ *
+ * Keyed by normalized query + the set of servers that were searched, so
+ * enabling/disabling a server does not serve a list built without it.
+ * Pagination cursors for the same query live in search_queue (kind PAGE).
+ */
+@Entity(tableName = "search_cache", indices = {
+        @Index(value = "query"),
+        @Index(value = "updatedAt")
+})
+public class SearchCacheEntity {
+
+    @PrimaryKey
+    @NonNull
+    private String cacheKey = "";
+
+    // Normalized query
+    private String query;
+
+    // Serialized List<com.omarflex5.data.search.SearchResult>
+    private String resultsJson;
+
+    private int resultCount;
+
+    // Timestamps
+    private long createdAt;
+    private long updatedAt;
+
+    // ========== Getters and Setters ==========
+
+    @NonNull
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(@NonNull String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public String getResultsJson() {
+        return resultsJson;
+    }
+
+    public void setResultsJson(String resultsJson) {
+        this.resultsJson = resultsJson;
+    }
+
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    public void setResultCount(int resultCount) {
+        this.resultCount = resultCount;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
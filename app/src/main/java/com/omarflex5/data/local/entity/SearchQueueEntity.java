@@ -6,17 +6,20 @@ import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 /**
- * Search queue for CF-protected servers.
+ * Search queue for CF-protected servers and pagination cursors.
  * 
  * When a search is initiated:
  * - Fast servers are queried immediately
- * - CF servers with expired cookies are queued here
- * - User clicks "Load More" to process queue via WebView
+ * - CF servers with expired cookies are queued here (kind CF_RETRY)
+ * - Next page URLs are kept as cursors (kind PAGE) so "Load More" survives
+ * restarts alongside the cached results in search_cache
+ * - User clicks "Load More" to process queue via WebView; CF_RETRY rows left
+ * pending are drained by SearchRetryWorker into the cached results
  */
 @Entity(tableName = "search_queue", foreignKeys = @ForeignKey(entity = ServerEntity.class, parentColumns = "id", childColumns = "serverId", onDelete = ForeignKey.CASCADE), indices = {
         @Index(value = "serverId"),
         @Index(value = "status"),
-        @Index(value = { "query", "serverId" }, unique = true)
+        @Index(value = { "query", "serverId", "url" }, unique = true)
 })
 public class SearchQueueEntity {
 
@@ -29,6 +32,12 @@ public class SearchQueueEntity {
     // Server to search
     private long serverId;
 
+    // URL to fetch (search URL or next page URL)
+    private String url;
+
+    // PAGE cursor or CF_RETRY task
+    private SearchQueueKind kind;
+
     // Status
     private SearchQueueStatus status;
 
@@ -68,6 +77,22 @@ public class SearchQueueEntity {
         this.serverId = serverId;
     }
 
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public SearchQueueKind getKind() {
+        return kind;
+    }
+
+    public void setKind(SearchQueueKind kind) {
+        this.kind = kind;
+    }
+
     public SearchQueueStatus getStatus() {
         return status;
     }
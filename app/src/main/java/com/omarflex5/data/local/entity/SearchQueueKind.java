@@ -0,0 +1,9 @@
+package com.omarflex5.data.local.entity;
+
+/**
+ * What a search queue row stands for.
+ */
+public enum SearchQueueKind {
+    PAGE, // Pagination cursor: next page URL of a server's results
+    CF_RETRY // Search URL that failed fast mode due to Cloudflare
+}
@@ -56,6 +56,7 @@ public class ServerEntity {
     private long totalFailures;
     private Long lastSuccessAt;
     private Long lastFailureAt;
+    private String latencyStatsJson; // Rolling per-phase latency histograms (LatencyStats)
 
     // Timestamps
     private long createdAt;
@@ -240,6 +241,14 @@ public class ServerEntity {
         this.headersJson = headersJson;
     }
 
+    public String getLatencyStatsJson() {
+        return latencyStatsJson;
+    }
+
+    public void setLatencyStatsJson(String latencyStatsJson) {
+        this.latencyStatsJson = latencyStatsJson;
+    }
+
     public String getSearchUrlPattern() {
         return searchUrlPattern;
     }
@@ -0,0 +1,44 @@
+package com.omarflex5.data.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cooperative cancellation shared by everything started on behalf of one
+ * operation (OkHttp calls, WebView loads, queued parse work).
+ *
+ * Listeners registered after cancel() run immediately on the calling thread.
+ */
+public class CancellationToken {
+
+    private boolean cancelled = false;
+    private List<Runnable> listeners = new ArrayList<>();
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void onCancel(Runnable listener) {
+        synchronized (this) {
+            if (!cancelled) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    public void cancel() {
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (cancelled)
+                return;
+            cancelled = true;
+            toRun = listeners;
+            listeners = new ArrayList<>();
+        }
+        for (Runnable listener : toRun) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.omarflex5.data.network;
+
+import android.os.Process;
+import android.util.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * App-wide HTTP engine. Every OkHttp client in the app is derived from here so
+ * they all share one connection pool (warm TCP/TLS + HTTP/2 multiplexing).
+ *
+ * Flow:
+ * 1. One ConnectionPool shared by all clients
+ * 2. Two priority lanes, each with its own bounded Dispatcher:
+ * USER for scraping/search the user is waiting on, BACKGROUND for updates,
+ * downloads and prefetch (fewer slots, low thread priority)
+ * 3. Call sites needing different timeouts/SSL use newBuilder() on a lane
+ * client, which keeps the shared pool and dispatcher
+ * 4. A shared EventListener counts calls vs new connections for diagnostics
+ * 5. An optional replay interceptor (debug builds) records or serves
+ * responses for offline testing, see NetworkReplay
+ */
+public class HttpEngine {
+
+    private static final String TAG = "HttpEngine";
+
+    public enum Priority {
+        USER,
+        BACKGROUND
+    }
+
+    private static final int USER_MAX_REQUESTS = 24;
+    private static final int USER_MAX_REQUESTS_PER_HOST = 6;
+    private static final int BACKGROUND_MAX_REQUESTS = 4;
+    private static final int BACKGROUND_MAX_REQUESTS_PER_HOST = 2;
+
+    private static volatile HttpEngine INSTANCE;
+
+    private final ConnectionPool connectionPool;
+    private final Metrics metrics = new Metrics();
+    private final OkHttpClient userClient;
+    private final OkHttpClient backgroundClient;
+    private volatile Interceptor replay;
+
+    private HttpEngine() {
+        connectionPool = new ConnectionPool(10, 5, TimeUnit.MINUTES);
+
+        Dispatcher userDispatcher = new Dispatcher(
+                newLaneExecutor("http-user", Process.THREAD_PRIORITY_DEFAULT));
+        userDispatcher.setMaxRequests(USER_MAX_REQUESTS);
+        userDispatcher.setMaxRequestsPerHost(USER_MAX_REQUESTS_PER_HOST);
+
+        Dispatcher backgroundDispatcher = new Dispatcher(
+                newLaneExecutor("http-bg", Process.THREAD_PRIORITY_BACKGROUND));
+        backgroundDispatcher.setMaxRequests(BACKGROUND_MAX_REQUESTS);
+        backgroundDispatcher.setMaxRequestsPerHost(BACKGROUND_MAX_REQUESTS_PER_HOST);
+
+        userClient = new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .dispatcher(userDispatcher)
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .eventListener(metrics)
+                .addInterceptor(chain -> {
+                    Interceptor current = replay;
+                    return current != null ? current.intercept(chain) : chain.proceed(chain.request());
+                })
+                .connectTimeout(15, TimeUnit.SECONDS)
+                .readTimeout(20, TimeUnit.SECONDS)
+                .followRedirects(true)
+                .followSslRedirects(true)
+                .retryOnConnectionFailure(true)
+                .build();
+
+        backgroundClient = userClient.newBuilder()
+                .dispatcher(backgroundDispatcher)
+                .build();
+    }
+
+    public static HttpEngine getInstance() {
+        if (INSTANCE == null) {
+            synchronized (HttpEngine.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new HttpEngine();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Client for user-visible traffic (search, details, player).
+     */
+    public OkHttpClient client() {
+        return userClient;
+    }
+
+    public OkHttpClient client(Priority priority) {
+        return priority == Priority.BACKGROUND ? backgroundClient : userClient;
+    }
+
+    /**
+     * Builder that shares the pool and the lane's dispatcher, for call sites
+     * that need their own timeouts or interceptors.
+     */
+    public OkHttpClient.Builder newBuilder(Priority priority) {
+        return client(priority).newBuilder();
+    }
+
+    /**
+     * Builder that skips certificate and hostname validation.
+     * Needed for TMDB on emulators with outdated certs and for video hosts with
+     * broken chains. Connections still come from the shared pool.
+     *
+     * OkHttp only reuses a pooled connection for the same Address, which
+     * includes the SSL socket factory and hostname verifier. Both are built
+     * once, so all unsafe clients (with the same connection specs) share
+     * their connections; they never share with the validating lane clients.
+     */
+    public OkHttpClient.Builder newUnsafeBuilder(Priority priority) {
+        OkHttpClient.Builder builder = newBuilder(priority);
+        javax.net.ssl.SSLSocketFactory socketFactory = trustAllSocketFactory();
+        if (socketFactory != null) {
+            builder.sslSocketFactory(socketFactory, TRUST_ALL);
+            builder.hostnameVerifier(ACCEPT_ALL_HOSTS);
+        }
+        return builder;
+    }
+
+    private static final X509TrustManager TRUST_ALL = new X509TrustManager() {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[] {};
+        }
+    };
+
+    private static final javax.net.ssl.HostnameVerifier ACCEPT_ALL_HOSTS = (hostname, session) -> true;
+
+    private static javax.net.ssl.SSLSocketFactory trustAllSocketFactory;
+
+    private static synchronized javax.net.ssl.SSLSocketFactory trustAllSocketFactory() {
+        if (trustAllSocketFactory == null) {
+            try {
+                SSLContext sslContext = SSLContext.getInstance("SSL");
+                sslContext.init(null, new TrustManager[] { TRUST_ALL }, new java.security.SecureRandom());
+                trustAllSocketFactory = sslContext.getSocketFactory();
+            } catch (Exception e) {
+                Log.e(TAG, "Error setting up SSL bypass: " + e.getMessage());
+            }
+        }
+        return trustAllSocketFactory;
+    }
+
+    /**
+     * Route every client's calls through a record/replay interceptor, or
+     * back to the network with null. Clients built earlier are covered too.
+     */
+    public void setReplay(Interceptor replay) {
+        this.replay = replay;
+    }
+
+    public String getStats() {
+        return metrics.toString() + " pooled=" + connectionPool.connectionCount()
+                + " idle=" + connectionPool.idleConnectionCount();
+    }
+
+    private static ThreadPoolExecutor newLaneExecutor(String name, int threadPriority) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(() -> {
+                Process.setThreadPriority(threadPriority);
+                runnable.run();
+            }, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // Same shape as OkHttp's default executor; the Dispatcher does the bounding
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), factory);
+    }
+
+    // ==================== INSTRUMENTATION ====================
+
+    /**
+     * Counts calls against new connections so connection reuse can be checked
+     * in logcat. Stateless per call, so one instance is shared by all clients.
+     */
+    private static class Metrics extends EventListener {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong connectsStarted = new AtomicLong();
+        private final AtomicLong connectionsAcquired = new AtomicLong();
+
+        @Override
+        public void callStart(Call call) {
+            calls.incrementAndGet();
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            failures.incrementAndGet();
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectsStarted.incrementAndGet();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            connectionsAcquired.incrementAndGet();
+        }
+
+        @Override
+        public String toString() {
+            long acquired = connectionsAcquired.get();
+            long reused = Math.max(0, acquired - connectsStarted.get());
+            return "calls=" + calls.get() + " failed=" + failures.get()
+                    + " newConnections=" + connectsStarted.get() + " reused=" + reused;
+        }
+    }
+}
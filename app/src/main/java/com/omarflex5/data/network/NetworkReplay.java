@@ -0,0 +1,261 @@
+package com.omarflex5.data.network;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * Record/replay of the scraper's HTTP traffic, for exercising search and
+ * details flows without the live sites.
+ *
+ * Installed on HttpEngine as an application interceptor, so every client
+ * derived from it is covered. WebView loads (CF fallback) are not.
+ *
+ * Flow:
+ * 1. RECORD: requests go to the network without their validators
+ * (If-None-Match/If-Modified-Since), so every answer is complete; text
+ * responses (status, headers, body) are written to the ReplayStore
+ * 2. REPLAY: responses are served from the store without touching the
+ * network, after an artificial latency. A configurable share of calls
+ * fail with an IOException or get a Cloudflare challenge page instead, to
+ * exercise timeouts and the WebView fallback
+ * 3. A request with no recording gets 504, or goes to the network when
+ * passthroughOnMiss is set
+ *
+ * Enabled only in debuggable builds, by pushing
+ * &lt;external files&gt;/replay/replay.properties, e.g.
+ * mode=replay, latencyMs=300, jitterMs=200, failureRate=0.05,
+ * challengeRate=0.1, passthroughOnMiss=false.
+ * Recordings live next to it in replay/store/.
+ */
+public class NetworkReplay implements Interceptor {
+
+    private static final String TAG = "NetworkReplay";
+    private static final String DIR_NAME = "replay";
+    private static final String CONFIG_FILE = "replay.properties";
+    private static final long MAX_RECORD_BYTES = 2L * 1024 * 1024; // 2 MB
+
+    private static final String CHALLENGE_PAGE = "<!DOCTYPE html><html><head><title>Just a moment...</title></head>"
+            + "<body><div id=\"challenge-form\" class=\"cf-turnstile\"></div>"
+            + "<script>window._cf_chl_opt={cType:'managed'};</script></body></html>";
+
+    public enum Mode {
+        RECORD,
+        REPLAY
+    }
+
+    public static class Config {
+        public Mode mode = Mode.REPLAY;
+        public long latencyMs = 0;
+        public long jitterMs = 0;
+        /** Share of replayed calls that fail with an IOException (0..1) */
+        public double failureRate = 0;
+        /** Share of replayed calls answered with a CF challenge (0..1) */
+        public double challengeRate = 0;
+        public boolean passthroughOnMiss = false;
+    }
+
+    private final ReplayStore store;
+    private final Config config;
+    private final Random random = new Random();
+
+    public NetworkReplay(ReplayStore store, Config config) {
+        this.store = store;
+        this.config = config;
+    }
+
+    /**
+     * Install on the shared HttpEngine when a replay.properties file has been
+     * pushed to a debuggable build. Called once from Application.onCreate.
+     */
+    public static void installIfConfigured(Context context) {
+        if ((context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) == 0)
+            return;
+        File external = context.getExternalFilesDir(null);
+        if (external == null)
+            return;
+        File dir = new File(external, DIR_NAME);
+        File configFile = new File(dir, CONFIG_FILE);
+        if (!configFile.exists())
+            return;
+
+        Config config = new Config();
+        try (InputStream in = new FileInputStream(configFile)) {
+            Properties props = new Properties();
+            props.load(in);
+            config.mode = "record".equalsIgnoreCase(props.getProperty("mode")) ? Mode.RECORD : Mode.REPLAY;
+            config.latencyMs = Long.parseLong(props.getProperty("latencyMs", "0"));
+            config.jitterMs = Long.parseLong(props.getProperty("jitterMs", "0"));
+            config.failureRate = Double.parseDouble(props.getProperty("failureRate", "0"));
+            config.challengeRate = Double.parseDouble(props.getProperty("challengeRate", "0"));
+            config.passthroughOnMiss = Boolean.parseBoolean(props.getProperty("passthroughOnMiss", "false"));
+        } catch (Exception e) {
+            Log.e(TAG, "Invalid " + CONFIG_FILE + ", replay disabled: " + e.getMessage());
+            return;
+        }
+
+        HttpEngine.getInstance().setReplay(new NetworkReplay(new ReplayStore(new File(dir, "store")), config));
+        Log.i(TAG, "Network " + config.mode + " enabled (" + dir + ")");
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String key = ReplayStore.key(request.method(), request.url().toString(), bodyOf(request));
+
+        if (config.mode == Mode.RECORD) {
+            // A 304 to PageCache's revalidation would replace the recorded body
+            // (the key ignores headers) and replay as an empty page
+            Request unconditional = request.newBuilder()
+                    .removeHeader("If-None-Match")
+                    .removeHeader("If-Modified-Since")
+                    .build();
+            return record(chain.proceed(unconditional), key);
+        }
+        return replay(chain, request, key);
+    }
+
+    // ==================== RECORD ====================
+
+    private Response record(Response response, String key) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null || !isRecordable(response, body))
+            return response;
+
+        byte[] bytes = body.bytes();
+        List<String> headers = new ArrayList<>();
+        Headers responseHeaders = response.headers();
+        for (int i = 0; i < responseHeaders.size(); i++) {
+            // Body is stored decoded, so its original length no longer applies
+            if ("Content-Length".equalsIgnoreCase(responseHeaders.name(i)))
+                continue;
+            headers.add(responseHeaders.name(i));
+            headers.add(responseHeaders.value(i));
+        }
+        store.put(new ReplayStore.Exchange(key, response.code(), response.message(), headers, bytes));
+        Log.d(TAG, "Recorded " + response.code() + " " + key);
+
+        return response.newBuilder()
+                .body(ResponseBody.create(bytes, body.contentType()))
+                .build();
+    }
+
+    // Media streams and downloads share the engine but are not worth recording
+    private static boolean isRecordable(Response response, ResponseBody body) {
+        if (response.request().header("Range") != null)
+            return false;
+        if (response.code() == 304)
+            return false;
+        if (body.contentLength() > MAX_RECORD_BYTES)
+            return false;
+        MediaType type = body.contentType();
+        if (type == null)
+            return false;
+        String kind = type.type() + "/" + type.subtype();
+        return type.type().equals("text") || kind.contains("json") || kind.contains("xml")
+                || kind.contains("javascript");
+    }
+
+    // ==================== REPLAY ====================
+
+    private Response replay(Chain chain, Request request, String key) throws IOException {
+        ReplayStore.Exchange exchange = store.get(key);
+        if (exchange == null) {
+            if (config.passthroughOnMiss)
+                return chain.proceed(request);
+            Log.d(TAG, "No recording for " + key);
+            return buildResponse(request, 504, "No recording", new ArrayList<>(), new byte[0]);
+        }
+
+        simulateLatency(chain);
+
+        double roll = random.nextDouble();
+        if (roll < config.failureRate) {
+            throw new IOException("Injected failure: " + key);
+        }
+        if (roll < config.failureRate + config.challengeRate) {
+            List<String> headers = new ArrayList<>();
+            headers.add("Content-Type");
+            headers.add("text/html; charset=UTF-8");
+            headers.add("Server");
+            headers.add("cloudflare");
+            return buildResponse(request, 403, "Forbidden", headers, CHALLENGE_PAGE.getBytes(StandardCharsets.UTF_8));
+        }
+        return buildResponse(request, exchange.code, exchange.message, exchange.headers, exchange.body);
+    }
+
+    private void simulateLatency(Chain chain) throws IOException {
+        long delay = config.latencyMs;
+        if (config.jitterMs > 0) {
+            delay += (long) (random.nextDouble() * config.jitterMs);
+        }
+        if (delay <= 0)
+            return;
+        // A reply slower than the read timeout times out like a slow server would
+        long timeout = chain.readTimeoutMillis();
+        if (timeout > 0 && delay > timeout) {
+            sleep(timeout);
+            throw new SocketTimeoutException("timeout");
+        }
+        sleep(delay);
+        if (chain.call().isCanceled()) {
+            throw new IOException("Canceled");
+        }
+    }
+
+    private static void sleep(long ms) throws IOException {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted");
+        }
+    }
+
+    private static Response buildResponse(Request request, int code, String message, List<String> headers,
+            byte[] body) {
+        Headers.Builder headerBuilder = new Headers.Builder();
+        for (int i = 0; i + 1 < headers.size(); i += 2) {
+            headerBuilder.addUnsafeNonAscii(headers.get(i), headers.get(i + 1));
+        }
+        Headers built = headerBuilder.build();
+        String contentType = built.get("Content-Type");
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(message)
+                .headers(built)
+                .body(ResponseBody.create(body, contentType != null ? MediaType.parse(contentType) : null))
+                .build();
+    }
+
+    private static String bodyOf(Request request) throws IOException {
+        if (request.body() == null)
+            return null;
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
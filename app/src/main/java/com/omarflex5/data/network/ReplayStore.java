@@ -0,0 +1,133 @@
+package com.omarflex5.data.network;
+
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recorded HTTP exchanges on disk, one file per request.
+ *
+ * Keyed by method + full URL (+ request body), so the same path on two
+ * servers is kept apart. Unlike PageCache nothing expires or is trimmed:
+ * a recording is replaced only by recording the same request again.
+ */
+public class ReplayStore {
+
+    private static final String TAG = "ReplayStore";
+    private static final int FORMAT_VERSION = 1;
+
+    public static class Exchange {
+        public final String key;
+        public final int code;
+        public final String message;
+        /** Flattened name/value pairs, in response order */
+        public final List<String> headers;
+        public final byte[] body;
+
+        public Exchange(String key, int code, String message, List<String> headers, byte[] body) {
+            this.key = key;
+            this.code = code;
+            this.message = message;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    private final File dir;
+
+    public ReplayStore(File dir) {
+        this.dir = dir;
+    }
+
+    public static String key(String method, String url, String body) {
+        String key = method + " " + url;
+        if (body != null && !body.isEmpty()) {
+            key += "|" + body;
+        }
+        return key;
+    }
+
+    public synchronized Exchange get(String key) {
+        File file = fileFor(key);
+        if (!file.exists())
+            return null;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION)
+                return null;
+            String storedKey = in.readUTF();
+            if (!storedKey.equals(key))
+                return null; // hash collision
+            int code = in.readInt();
+            String message = in.readUTF();
+            int headerCount = in.readInt();
+            List<String> headers = new ArrayList<>(headerCount * 2);
+            for (int i = 0; i < headerCount * 2; i++) {
+                headers.add(in.readUTF());
+            }
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream((int) file.length());
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bos.write(buffer, 0, read);
+            }
+            return new Exchange(key, code, message, headers, bos.toByteArray());
+        } catch (Exception e) {
+            Log.w(TAG, "Unreadable recording for " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public synchronized void put(Exchange exchange) {
+        if (!dir.exists() && !dir.mkdirs())
+            return;
+        File file = fileFor(exchange.key);
+        File tmp = new File(dir, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(exchange.key);
+            out.writeInt(exchange.code);
+            out.writeUTF(exchange.message != null ? exchange.message : "");
+            out.writeInt(exchange.headers.size() / 2);
+            for (String value : exchange.headers) {
+                out.writeUTF(value);
+            }
+            out.write(exchange.body);
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to write recording: " + e.getMessage());
+            tmp.delete();
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(dir, sha1(key));
+    }
+
+    private static String sha1(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] digest = md.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.omarflex5.data.network;
+
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cookie;
+import okhttp3.HttpUrl;
+
+/**
+ * One server's cookies, with the attributes that decide how long they are
+ * valid and which hosts they belong to.
+ *
+ * Sources:
+ * 1. Set-Cookie headers on direct (OkHttp) responses carry the real
+ * Expires/Max-Age, Domain and Path, and replace any estimate
+ * 2. CookieManager only exposes name=value. A WebView cookie keeps the
+ * attributes already known for the same value. Otherwise its expiry is
+ * estimated: 30 minutes for __cf_bm, and the server's learned clearance
+ * lifetime for cf_clearance
+ * 3. The direct path corrects the learned lifetime. A challenge while a
+ * clearance is held shortens it to that clearance's age. A success past
+ * the estimate lengthens it
+ *
+ * Serialized into ServerEntity.cfCookiesJson. The older flat name/value map
+ * is still read, using the entity's stored expiry.
+ */
+public class ServerCookieStore {
+
+    private static final String TAG = "ServerCookieStore";
+
+    public static final String CLEARANCE = "cf_clearance";
+    private static final String CF_BM = "__cf_bm";
+
+    private static final long CF_BM_LIFETIME_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long DEFAULT_CLEARANCE_LIFETIME_MS = TimeUnit.HOURS.toMillis(24);
+    private static final long MIN_CLEARANCE_LIFETIME_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long MAX_CLEARANCE_LIFETIME_MS = TimeUnit.DAYS.toMillis(30);
+    // Lengthen by this much past the age at which a clearance was still accepted
+    private static final long CLEARANCE_STRETCH_MS = TimeUnit.HOURS.toMillis(1);
+
+    private static final Gson GSON = new Gson();
+
+    public static class StoredCookie {
+        public String name;
+        public String value;
+        public String domain;
+        public String path = "/";
+        public boolean hostOnly = true;
+        public boolean secure;
+        public boolean httpOnly;
+        public long createdAt;
+        /** 0 for a session cookie */
+        public long expiresAt;
+        /** Expiry guessed, not read from a Set-Cookie header */
+        public boolean estimated;
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && expiresAt <= now;
+        }
+    }
+
+    private long clearanceLifetimeMs = DEFAULT_CLEARANCE_LIFETIME_MS;
+    private List<StoredCookie> cookies = new ArrayList<>();
+
+    // ==================== SERIALIZATION ====================
+
+    /**
+     * @param baseUrl         server base URL, the domain of legacy cookies
+     * @param legacyExpiresAt expiry stored next to a legacy name/value map
+     */
+    public static ServerCookieStore fromJson(String json, String baseUrl, Long legacyExpiresAt) {
+        ServerCookieStore store = null;
+        if (json != null && !json.isEmpty()) {
+            try {
+                JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+                if (root.has("cookies")) {
+                    store = GSON.fromJson(root, ServerCookieStore.class);
+                } else {
+                    store = fromLegacy(root, baseUrl, legacyExpiresAt);
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "Error parsing saved cookies: " + e.getMessage());
+            }
+        }
+        if (store == null)
+            store = new ServerCookieStore();
+        if (store.cookies == null)
+            store.cookies = new ArrayList<>();
+        if (store.clearanceLifetimeMs <= 0)
+            store.clearanceLifetimeMs = DEFAULT_CLEARANCE_LIFETIME_MS;
+        return store;
+    }
+
+    private static ServerCookieStore fromLegacy(JsonObject map, String baseUrl, Long expiresAt) {
+        ServerCookieStore store = new ServerCookieStore();
+        String host = hostOf(baseUrl);
+        if (host == null)
+            return store;
+        long expiry = expiresAt != null ? expiresAt : 0;
+        for (Map.Entry<String, JsonElement> entry : map.entrySet()) {
+            StoredCookie cookie = estimatedCookie(entry.getKey(), entry.getValue().getAsString(), host, 0);
+            cookie.expiresAt = expiry;
+            store.cookies.add(cookie);
+        }
+        return store;
+    }
+
+    public synchronized String toJson() {
+        return GSON.toJson(this);
+    }
+
+    public synchronized boolean isEmpty() {
+        return cookies.isEmpty();
+    }
+
+    // ==================== MERGE ====================
+
+    /**
+     * Merge the name=value pairs CookieManager reports for url.
+     *
+     * @return true if anything changed
+     */
+    public synchronized boolean mergeFromWebView(String url, Map<String, String> pairs, long now) {
+        String host = hostOf(url);
+        if (host == null || pairs == null)
+            return false;
+        boolean changed = false;
+        for (Map.Entry<String, String> entry : pairs.entrySet()) {
+            StoredCookie existing = find(entry.getKey(), host);
+            if (existing != null && existing.value.equals(entry.getValue()))
+                continue; // Same cookie; keep what is known about it
+            if (existing != null)
+                cookies.remove(existing);
+
+            StoredCookie cookie = estimatedCookie(entry.getKey(), entry.getValue(), host, now);
+            if (CLEARANCE.equals(cookie.name)) {
+                cookie.expiresAt = now + clearanceLifetimeMs;
+            } else if (CF_BM.equals(cookie.name)) {
+                cookie.expiresAt = now + CF_BM_LIFETIME_MS;
+            }
+            if (existing != null && !existing.estimated) {
+                // A new value for a cookie whose attributes were read before
+                cookie.domain = existing.domain;
+                cookie.hostOnly = existing.hostOnly;
+                cookie.path = existing.path;
+                cookie.secure = existing.secure;
+                cookie.httpOnly = existing.httpOnly;
+            }
+            cookies.add(cookie);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Merge the cookies a direct response set (already parsed from its
+     * Set-Cookie headers).
+     *
+     * @return true if anything changed
+     */
+    public synchronized boolean merge(List<Cookie> received, long now) {
+        boolean changed = false;
+        for (Cookie parsed : received) {
+            Iterator<StoredCookie> it = cookies.iterator();
+            while (it.hasNext()) {
+                StoredCookie cookie = it.next();
+                if (cookie.name.equals(parsed.name()) && cookie.domain.equals(parsed.domain())
+                        && cookie.path.equals(parsed.path())) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+            if (parsed.persistent() && parsed.expiresAt() <= now)
+                continue; // Deletion
+
+            StoredCookie cookie = new StoredCookie();
+            cookie.name = parsed.name();
+            cookie.value = parsed.value();
+            cookie.domain = parsed.domain();
+            cookie.path = parsed.path();
+            cookie.hostOnly = parsed.hostOnly();
+            cookie.secure = parsed.secure();
+            cookie.httpOnly = parsed.httpOnly();
+            cookie.createdAt = now;
+            cookie.expiresAt = parsed.persistent() ? parsed.expiresAt() : 0;
+            cookies.add(cookie);
+            changed = true;
+        }
+        return changed;
+    }
+
+    // ==================== CLEARANCE LIFETIME ====================
+
+    /**
+     * A direct request carrying these cookies was challenged anyway: the
+     * clearance is gone, and an estimated one lasted only this long.
+     *
+     * @return true if anything changed
+     */
+    public synchronized boolean onChallenged(long now) {
+        StoredCookie clearance = find(CLEARANCE, null);
+        if (clearance == null)
+            return false;
+        if (clearance.estimated && clearance.createdAt > 0) {
+            clearanceLifetimeMs = clamp(now - clearance.createdAt);
+            Log.d(TAG, "Clearance rejected after " + TimeUnit.MILLISECONDS.toMinutes(now - clearance.createdAt)
+                    + " min");
+        }
+        cookies.remove(clearance);
+        return true;
+    }
+
+    /**
+     * A direct request carrying these cookies got through. If the clearance
+     * had outlived its estimate, the estimate was too short.
+     *
+     * @return true if anything changed
+     */
+    public synchronized boolean onAccepted(long now) {
+        StoredCookie clearance = find(CLEARANCE, null);
+        if (clearance == null || !clearance.estimated || !clearance.isExpired(now) || clearance.createdAt == 0)
+            return false;
+        clearanceLifetimeMs = clamp(now - clearance.createdAt + CLEARANCE_STRETCH_MS);
+        clearance.expiresAt = clearance.createdAt + clearanceLifetimeMs;
+        Log.d(TAG, "Clearance still accepted, lifetime now "
+                + TimeUnit.MILLISECONDS.toMinutes(clearanceLifetimeMs) + " min");
+        return true;
+    }
+
+    /**
+     * When the stored session stops being usable: the clearance's expiry, or
+     * without one the earliest persistent cookie's.
+     */
+    public synchronized long sessionExpiresAt(long now) {
+        StoredCookie clearance = find(CLEARANCE, null);
+        if (clearance != null)
+            return clearance.expiresAt != 0 ? clearance.expiresAt : now + clearanceLifetimeMs;
+
+        long earliest = 0;
+        long newest = 0;
+        for (StoredCookie cookie : cookies) {
+            if (cookie.expiresAt != 0 && (earliest == 0 || cookie.expiresAt < earliest))
+                earliest = cookie.expiresAt;
+            newest = Math.max(newest, cookie.createdAt);
+        }
+        if (earliest != 0)
+            return earliest;
+        return (newest != 0 ? newest : now) + DEFAULT_CLEARANCE_LIFETIME_MS;
+    }
+
+    private static long clamp(long lifetime) {
+        return Math.max(MIN_CLEARANCE_LIFETIME_MS, Math.min(MAX_CLEARANCE_LIFETIME_MS, lifetime));
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Cookies to send to url. An estimated cookie past its estimate is still
+     * sent; the server decides whether it is valid.
+     */
+    public synchronized List<StoredCookie> forUrl(String url, long now) {
+        HttpUrl httpUrl = url != null ? HttpUrl.parse(url) : null;
+        return httpUrl != null ? forUrl(httpUrl, now) : new ArrayList<>();
+    }
+
+    /**
+     * Cookies to send to url, in OkHttp form (for a CookieJar).
+     */
+    public synchronized List<Cookie> cookiesFor(HttpUrl url, long now) {
+        List<Cookie> result = new ArrayList<>();
+        for (StoredCookie cookie : forUrl(url, now)) {
+            result.add(toOkHttp(cookie, false));
+        }
+        return result;
+    }
+
+    private List<StoredCookie> forUrl(HttpUrl httpUrl, long now) {
+        List<StoredCookie> result = new ArrayList<>();
+        for (StoredCookie cookie : cookies) {
+            if (cookie.isExpired(now) && !cookie.estimated)
+                continue;
+            try {
+                if (toOkHttp(cookie, false).matches(httpUrl))
+                    result.add(cookie);
+            } catch (IllegalArgumentException e) {
+                Log.w(TAG, "Skipping malformed cookie " + cookie.name + ": " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    public synchronized Map<String, String> asMap(String url, long now) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (StoredCookie cookie : forUrl(url, now)) {
+            map.put(cookie.name, cookie.value);
+        }
+        return map;
+    }
+
+    /**
+     * Cookie request header for url, or null when there is nothing to send.
+     */
+    public synchronized String cookieHeader(String url, long now) {
+        StringBuilder header = new StringBuilder();
+        for (StoredCookie cookie : forUrl(url, now)) {
+            if (header.length() > 0)
+                header.append("; ");
+            header.append(cookie.name).append('=').append(cookie.value);
+        }
+        return header.length() > 0 ? header.toString() : null;
+    }
+
+    /**
+     * Set-Cookie string for CookieManager.setCookie, with the stored
+     * attributes. An estimate already passed is restored as a session cookie
+     * rather than as an expired one.
+     */
+    public static String toSetCookie(StoredCookie cookie, long now) {
+        return toOkHttp(cookie, !(cookie.estimated && cookie.isExpired(now))).toString();
+    }
+
+    /**
+     * URL to pass to CookieManager.setCookie for this cookie's domain.
+     */
+    public static String originOf(StoredCookie cookie) {
+        return "https://" + cookie.domain + cookie.path;
+    }
+
+    private StoredCookie find(String name, String host) {
+        for (StoredCookie cookie : cookies) {
+            if (!cookie.name.equals(name))
+                continue;
+            if (host == null || cookie.domain.equals(host)
+                    || (!cookie.hostOnly && host.endsWith("." + cookie.domain)))
+                return cookie;
+        }
+        return null;
+    }
+
+    private static StoredCookie estimatedCookie(String name, String value, String host, long now) {
+        StoredCookie cookie = new StoredCookie();
+        cookie.name = name;
+        cookie.value = value;
+        cookie.domain = host;
+        cookie.createdAt = now;
+        cookie.estimated = true;
+        // CF cookies are HttpOnly + Secure; restoring them otherwise invalidates them
+        if (CLEARANCE.equals(name) || CF_BM.equals(name)) {
+            cookie.secure = true;
+            cookie.httpOnly = true;
+        }
+        return cookie;
+    }
+
+    private static Cookie toOkHttp(StoredCookie cookie, boolean withExpiry) {
+        Cookie.Builder builder = new Cookie.Builder()
+                .name(cookie.name)
+                .value(cookie.value)
+                .path(cookie.path != null ? cookie.path : "/");
+        if (cookie.hostOnly) {
+            builder.hostOnlyDomain(cookie.domain);
+        } else {
+            builder.domain(cookie.domain);
+        }
+        if (withExpiry && cookie.expiresAt != 0)
+            builder.expiresAt(cookie.expiresAt);
+        if (cookie.secure)
+            builder.secure();
+        if (cookie.httpOnly)
+            builder.httpOnly();
+        return builder.build();
+    }
+
+    private static String hostOf(String url) {
+        HttpUrl httpUrl = url != null ? HttpUrl.parse(url) : null;
+        return httpUrl != null ? httpUrl.host() : null;
+    }
+}
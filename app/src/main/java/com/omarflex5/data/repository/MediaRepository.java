@@ -24,6 +24,7 @@ public class MediaRepository {
 
     private static volatile MediaRepository INSTANCE;
 
+    private final AppDatabase database;
     private final MediaDao mediaDao;
     private final UserMediaStateDao userMediaStateDao;
     private final com.omarflex5.data.local.dao.MediaSourceDao mediaSourceDao;
@@ -37,6 +38,7 @@ public class MediaRepository {
 
     private MediaRepository(Context context) {
         AppDatabase db = AppDatabase.getInstance(context);
+        this.database = db;
         this.mediaDao = db.mediaDao();
         this.userMediaStateDao = db.userMediaStateDao();
         this.mediaSourceDao = db.mediaSourceDao();
@@ -98,6 +100,15 @@ public class MediaRepository {
                 l -> mediaDao.getMediaByLanguageLiveData(language, l));
     }
 
+    // Local type-ahead over the FTS title index
+    public LiveData<List<com.omarflex5.data.local.model.MediaWithUserState>> searchLocal(String query, int limit) {
+        String match = com.omarflex5.util.ArabicFolding.toPrefixMatch(query);
+        if (match == null) {
+            return new androidx.lifecycle.MutableLiveData<>(new java.util.ArrayList<>());
+        }
+        return mediaDao.typeAheadLiveData(match, limit);
+    }
+
     public LiveData<UserMediaStateEntity> getUserState(long mediaId) {
         return userMediaStateDao.getStateForMedia(mediaId);
     }
@@ -524,70 +535,101 @@ public class MediaRepository {
         if (items == null || items.isEmpty())
             return;
 
-        // This should run on background, but we assume caller handles threading since
-        // it modifies list in-place
-        // before UI submission.
-
-        // Ideally pass DAO in constructor, but for now we follow pattern.
-        // Wait, getInstance needs context. The singleton INSTANCE already has context.
-        // We can just use member fields if we add them.
-
+        // Resolve URLs first; items without one are skipped as before
+        java.util.List<com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem> valid = new java.util.ArrayList<>();
+        java.util.List<String> urls = new java.util.ArrayList<>();
         for (com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem item : items) {
-            try {
-                String fullUrl = item.getPageUrl();
-                String normalizedUrl = com.omarflex5.util.UrlHelper.normalize(fullUrl);
-
-                if (normalizedUrl == null || normalizedUrl.isEmpty()) {
-                    android.util.Log.e("SYNC", "Skipping source for " + item.getTitle() + " - Empty URL");
-                    continue;
-                }
+            String normalizedUrl = com.omarflex5.util.UrlHelper.normalize(item.getPageUrl());
+            if (normalizedUrl == null || normalizedUrl.isEmpty()) {
+                android.util.Log.e("SYNC", "Skipping source for " + item.getTitle() + " - Empty URL");
+                continue;
+            }
+            valid.add(item);
+            urls.add(normalizedUrl);
+        }
+        if (valid.isEmpty())
+            return;
 
-                // 1. Check DB for this source
-                com.omarflex5.data.local.entity.MediaSourceEntity existingSource = mediaSourceDao
-                        .findByExternalUrlAndServer(normalizedUrl, serverId);
+        // One write transaction per page; chunked to stay under SQLite's bound-variable limit
+        for (int from = 0; from < valid.size(); from += SYNC_CHUNK_SIZE) {
+            int to = Math.min(valid.size(), from + SYNC_CHUNK_SIZE);
+            List<com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem> chunkItems = valid.subList(from, to);
+            List<String> chunkUrls = urls.subList(from, to);
+            try {
+                database.runInTransaction(() -> syncSearchChunk(chunkItems, chunkUrls, serverId));
+            } catch (Exception e) {
+                android.util.Log.e("SYNC", "Batch sync failed: " + e.getMessage());
+            }
+        }
+    }
 
-                if (existingSource != null) {
-                    // Match found! Get watch history.
-                    Long mediaId = existingSource.getMediaId();
+    private static final int SYNC_CHUNK_SIZE = 400;
 
-                    android.util.Log.d("SYNC", "EXISTING source found for " + item.getTitle() +
-                            " - mediaId=" + mediaId + " (URL=" + normalizedUrl + ")");
+    /**
+     * Bulk path: 3-4 IN (...) lookups for the whole chunk, then only the
+     * writes that are actually needed. Must run inside a transaction.
+     */
+    private void syncSearchChunk(List<com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem> items,
+            List<String> urls, long serverId) {
+        long now = System.currentTimeMillis();
+
+        // 1. Existing sources by URL
+        java.util.Map<String, Long> mediaIdByUrl = new java.util.HashMap<>();
+        for (com.omarflex5.data.local.entity.MediaSourceEntity source : mediaSourceDao
+                .findByExternalUrlsAndServer(new java.util.ArrayList<>(new java.util.LinkedHashSet<>(urls)), serverId)) {
+            if (source.getMediaId() != null) {
+                mediaIdByUrl.put(source.getExternalUrl(), source.getMediaId());
+            }
+        }
 
-                    if (mediaId != null) {
-                        item.setMediaId(mediaId);
+        // 2. Their media rows, and TMDB rows new items may inherit from
+        java.util.Map<Long, MediaEntity> mediaById = new java.util.HashMap<>();
+        if (!mediaIdByUrl.isEmpty()) {
+            for (MediaEntity media : mediaDao.getByIds(new java.util.ArrayList<>(mediaIdByUrl.values()))) {
+                mediaById.put(media.getId(), media);
+            }
+        }
+        java.util.Set<Integer> tmdbIds = new java.util.HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            Integer tmdbId = items.get(i).getTmdbId();
+            if (!mediaIdByUrl.containsKey(urls.get(i)) && tmdbId != null && tmdbId > 0) {
+                tmdbIds.add(tmdbId);
+            }
+        }
+        java.util.Map<Integer, MediaEntity> mediaByTmdbId = new java.util.HashMap<>();
+        if (!tmdbIds.isEmpty()) {
+            for (MediaEntity media : mediaDao.getByTmdbIds(new java.util.ArrayList<>(tmdbIds))) {
+                mediaByTmdbId.put(media.getTmdbId(), media);
+            }
+        }
 
-                        // ENRICH: If record exists, update it with CURRENT scraper metadata
-                        // BUT: Skip enrichment for TMDB entities to keep them pristine
-                        MediaEntity existingMedia = mediaDao.getById(mediaId);
-                        if (existingMedia != null) {
-                            boolean isTmdbEntity = existingMedia.getTmdbId() != null && existingMedia.getTmdbId() > 0;
-
-                            if (!isTmdbEntity) {
-                                // Only update source-specific entities, not TMDB
-                                existingMedia.setPrimaryServerId(serverId);
-
-                                if (enrichMediaFromItem(existingMedia, item)) {
-                                    try {
-                                        mediaDao.update(existingMedia);
-                                    } catch (android.database.sqlite.SQLiteConstraintException e) {
-                                        android.util.Log.w("SYNC",
-                                                "Skipping update due to tmdbId conflict: " + e.getMessage());
-                                    }
+        // 3. Upserts
+        java.util.Set<Long> updated = new java.util.HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem item = items.get(i);
+            String normalizedUrl = urls.get(i);
+            try {
+                Long mediaId = mediaIdByUrl.get(normalizedUrl);
+                if (mediaId != null) {
+                    item.setMediaId(mediaId);
+
+                    // ENRICH: update source-specific entities with CURRENT scraper metadata,
+                    // but keep TMDB entities pristine
+                    MediaEntity existingMedia = mediaById.get(mediaId);
+                    if (existingMedia != null && updated.add(mediaId)) {
+                        boolean isTmdbEntity = existingMedia.getTmdbId() != null && existingMedia.getTmdbId() > 0;
+                        if (!isTmdbEntity) {
+                            existingMedia.setPrimaryServerId(serverId);
+                            if (enrichMediaFromItem(existingMedia, item)) {
+                                try {
+                                    mediaDao.update(existingMedia);
+                                } catch (android.database.sqlite.SQLiteConstraintException e) {
+                                    android.util.Log.w("SYNC",
+                                            "Skipping update due to tmdbId conflict: " + e.getMessage());
                                 }
-                            } else {
-                                android.util.Log.d("SYNC",
-                                        "Skipping enrichment for TMDB entity: " + existingMedia.getTitle());
                             }
                         }
-
-                        UserMediaStateEntity state = userMediaStateDao.getStateForMediaSync(mediaId);
-                        if (state != null) {
-                            item.setWatched(state.isWatched());
-                            item.setWatchProgress(state.getWatchProgress());
-                            item.setDuration(state.getDuration());
-                        }
                     }
-
                 } else {
                     // Not found by URL -> Always create SOURCE-SPECIFIC MediaEntity
                     MediaEntity newMedia = new MediaEntity();
@@ -596,13 +638,13 @@ public class MediaRepository {
                     newMedia.setPosterUrl(item.getPosterUrl());
                     newMedia.setType(item.getType());
                     newMedia.setYear(item.getYear());
-                    newMedia.setCreatedAt(System.currentTimeMillis());
-                    newMedia.setUpdatedAt(System.currentTimeMillis());
+                    newMedia.setCreatedAt(now);
+                    newMedia.setUpdatedAt(now);
                     newMedia.setCategoriesJson(new org.json.JSONArray(item.getCategories()).toString());
                     newMedia.setPrimaryServerId(serverId);
 
                     if (item.getTmdbId() != null && item.getTmdbId() > 0) {
-                        MediaEntity tmdbEntity = mediaDao.getByTmdbId(item.getTmdbId());
+                        MediaEntity tmdbEntity = mediaByTmdbId.get(item.getTmdbId());
                         if (tmdbEntity != null && tmdbEntity.getType() == item.getType()) {
                             inheritTmdbMetadata(newMedia, tmdbEntity);
                         }
@@ -610,20 +652,39 @@ public class MediaRepository {
 
                     long newId = mediaDao.insert(newMedia);
                     item.setMediaId(newId);
+                    // Same URL twice on one page -> second one links to this row
+                    mediaIdByUrl.put(normalizedUrl, newId);
 
                     // Link Source
                     com.omarflex5.data.local.entity.MediaSourceEntity newSource = new com.omarflex5.data.local.entity.MediaSourceEntity();
                     newSource.setMediaId(newId);
                     newSource.setServerId(serverId);
                     newSource.setExternalUrl(normalizedUrl);
-                    newSource.setCreatedAt(System.currentTimeMillis());
-                    newSource.setUpdatedAt(System.currentTimeMillis());
+                    newSource.setCreatedAt(now);
+                    newSource.setUpdatedAt(now);
                     mediaSourceDao.insert(newSource);
                 }
             } catch (Exception e) {
                 e.printStackTrace();
             }
         }
+
+        // 4. Watch history for everything that already existed
+        if (!mediaById.isEmpty()) {
+            java.util.Map<Long, UserMediaStateEntity> stateByMediaId = new java.util.HashMap<>();
+            for (UserMediaStateEntity state : userMediaStateDao
+                    .getStatesForMediaSync(new java.util.ArrayList<>(mediaById.keySet()))) {
+                stateByMediaId.put(state.getMediaId(), state);
+            }
+            for (com.omarflex5.data.scraper.BaseHtmlParser.ParsedItem item : items) {
+                UserMediaStateEntity state = stateByMediaId.get(item.getMediaId());
+                if (state != null) {
+                    item.setWatched(state.isWatched());
+                    item.setWatchProgress(state.getWatchProgress());
+                    item.setDuration(state.getDuration());
+                }
+            }
+        }
     }
 
     /**
@@ -264,6 +264,13 @@ public class ServerRepository {
         }
     }
 
+    /**
+     * Save a server's latency histograms (see LatencyStats).
+     */
+    public void saveLatencyStats(long serverId, String statsJson) {
+        executor.execute(() -> serverDao.updateLatencyStats(serverId, statsJson));
+    }
+
     // ==================== SERVER CONFIGURATION ====================
 
     /**
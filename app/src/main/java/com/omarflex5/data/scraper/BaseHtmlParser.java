@@ -1,9 +1,15 @@
 package com.omarflex5.data.scraper;
 
 import com.omarflex5.data.local.entity.MediaType;
+import com.omarflex5.data.scraper.util.TitleNormalizer;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,10 +19,18 @@ import java.util.regex.Pattern;
  */
 public abstract class BaseHtmlParser {
 
+    // Compiled patterns keyed by flags + regex, shared by all parser instances
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\((\\d{4})\\)");
+
     protected final String html;
     protected String pageUrl; // The URL of the page being parsed
     protected ParsedItem sourceItem; // The item that triggered this parse (optional context)
 
+    private Document document; // Parsed on first use
+    private String regionMarker;
+    private Document region;
+
     public BaseHtmlParser(String html) {
         this.html = html;
         this.pageUrl = "";
@@ -99,6 +113,90 @@ public abstract class BaseHtmlParser {
         }
     }
 
+    // ==================== DOCUMENT ====================
+
+    /**
+     * The page parsed by Jsoup. Parsed once on first use and shared by every
+     * pass over this parser's html, so callers must not modify it.
+     */
+    protected Document document() {
+        if (document == null) {
+            document = Jsoup.parse(html);
+        }
+        return document;
+    }
+
+    /**
+     * Parse only the page from the first element whose class attribute
+     * contains marker (e.g. the first result card's class) to the end,
+     * skipping the head, inline scripts and header before it. Nothing after
+     * the marker is dropped, so selectors for the cards and the pagination
+     * below them still match. Falls back to document() when the marker is
+     * missing or the full page is already parsed.
+     */
+    protected Document documentFrom(String marker) {
+        return documentFromFirst(marker);
+    }
+
+    /**
+     * Like documentFrom(), starting at whichever of the markers comes first.
+     * For detail pages, whose sections (title, poster, seasons, servers) come
+     * in a different order per page type: pass the outermost class of every
+     * selector the parse uses, and only when it reads nothing outside them
+     * (doc.title(), meta tags, page-wide selectors).
+     */
+    protected Document documentFromFirst(String... markers) {
+        if (document != null)
+            return document;
+        String key = String.join("|", markers);
+        if (key.equals(regionMarker))
+            return region;
+
+        int start = -1;
+        for (String marker : markers) {
+            int tag = elementWithClass(marker);
+            if (tag >= 0 && (start < 0 || tag < start))
+                start = tag;
+        }
+        if (start < 0)
+            return document();
+
+        regionMarker = key;
+        region = Jsoup.parse(html.substring(start));
+        return region;
+    }
+
+    /**
+     * Start of the first tag with className in its class attribute, or -1.
+     * Mentions of the name in inline scripts and styles are skipped.
+     */
+    private int elementWithClass(String className) {
+        Matcher m = pattern("(?<![\\w-])class\\s*=\\s*[\"'](?:[^\"']*\\s)?" + Pattern.quote(className)
+                + "[\"'\\s]").matcher(html);
+        while (m.find()) {
+            int tag = html.lastIndexOf('<', m.start());
+            if (tag >= 0 && !insideRawText(tag, "script") && !insideRawText(tag, "style"))
+                return tag;
+        }
+        return -1;
+    }
+
+    private boolean insideRawText(int index, String tagName) {
+        int open = html.lastIndexOf("<" + tagName, index);
+        return open >= 0 && html.lastIndexOf("</" + tagName, index) < open;
+    }
+
+    /**
+     * Compiled pattern for a regex, cached across calls and parsers.
+     */
+    protected static Pattern pattern(String regex) {
+        return pattern(regex, 0);
+    }
+
+    protected static Pattern pattern(String regex, int flags) {
+        return PATTERNS.computeIfAbsent(flags + "/" + regex, key -> Pattern.compile(regex, flags));
+    }
+
     // ==================== COMMON UTILITIES ====================
 
     /**
@@ -122,8 +220,7 @@ public abstract class BaseHtmlParser {
      */
     protected List<String> extractAll(String pattern, int group) {
         List<String> results = new ArrayList<>();
-        Pattern p = Pattern.compile(pattern);
-        Matcher m = p.matcher(html);
+        Matcher m = pattern(pattern).matcher(html);
         while (m.find()) {
             if (group <= m.groupCount()) {
                 results.add(m.group(group));
@@ -136,8 +233,7 @@ public abstract class BaseHtmlParser {
      * Extract first match of a pattern.
      */
     protected String extractFirst(String pattern, int group) {
-        Pattern p = Pattern.compile(pattern);
-        Matcher m = p.matcher(html);
+        Matcher m = pattern(pattern).matcher(html);
         if (m.find() && group <= m.groupCount()) {
             return m.group(group);
         }
@@ -148,23 +244,14 @@ public abstract class BaseHtmlParser {
      * Clean HTML tags from text.
      */
     protected String stripHtml(String html) {
-        if (html == null)
-            return null;
-        return html.replaceAll("<[^>]+>", "")
-                .replaceAll("&nbsp;", " ")
-                .replaceAll("&amp;", "&")
-                .replaceAll("&lt;", "<")
-                .replaceAll("&gt;", ">")
-                .replaceAll("&#\\d+;", "")
-                .trim();
+        return TitleNormalizer.stripHtml(html);
     }
 
     /**
      * Extract year from title like "Movie Name (2023)".
      */
     protected Integer extractYear(String title) {
-        Pattern p = Pattern.compile("\\((\\d{4})\\)");
-        Matcher m = p.matcher(title);
+        Matcher m = YEAR_PATTERN.matcher(title);
         if (m.find()) {
             try {
                 return Integer.parseInt(m.group(1));
@@ -179,16 +266,7 @@ public abstract class BaseHtmlParser {
      * Clean title by removing year and common suffixes.
      */
     protected String cleanTitle(String title) {
-        if (title == null)
-            return null;
-        return title
-                .replaceAll("\\(\\d{4}\\)", "") // Remove year
-                .replaceAll("(?i)\\s*مترجم\\s*", "") // Remove "مترجم" (translated)
-                .replaceAll("(?i)\\s*مدبلج\\s*", "") // Remove "مدبلج" (dubbed)
-                .replaceAll("(?i)\\s*HD\\s*", "")
-                .replaceAll("(?i)\\s*BluRay\\s*", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        return TitleNormalizer.cleanTitle(title);
     }
 
     /**
@@ -211,19 +289,10 @@ public abstract class BaseHtmlParser {
 
     /**
      * Create a match key for deduplication.
-     * Format: normalized_title|year|season|episode
+     * Format: folded_title|year|season|episode
      */
     protected String createMatchKey(String title, Integer year, Integer season, Integer episode) {
-        String normalized = title != null ? title.toLowerCase()
-                .replaceAll("[^a-z0-9\\u0600-\\u06FF]", "") // Keep Arabic
-                .trim() : "";
-
-        StringBuilder key = new StringBuilder(normalized);
-        key.append("|").append(year != null ? year : "");
-        key.append("|").append(season != null ? season : "");
-        key.append("|").append(episode != null ? episode : "");
-
-        return key.toString();
+        return TitleNormalizer.matchKey(title, year, season, episode);
     }
 
     // ==================== PARSED ITEM ====================
@@ -0,0 +1,124 @@
+package com.omarflex5.data.scraper;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.omarflex5.data.local.entity.ServerEntity;
+import com.omarflex5.data.network.CancellationToken;
+import com.omarflex5.data.network.HttpEngine;
+import com.omarflex5.data.repository.ServerRepository;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * Focus-driven detail page prefetch for TV navigation.
+ *
+ * Flow:
+ * 1. A result/home card reports focus changes (main thread)
+ * 2. A card that keeps focus for FOCUS_DWELL_MS starts a fetch of its detail
+ * page on the BACKGROUND lane, without WebView fallback, into the page cache
+ * 3. At most MAX_IN_FLIGHT fetches run; a newer one cancels the oldest. A
+ * fetch the user already opened keeps running, since DetailsActivity
+ * coalesced onto it (and takes it on to the WebView if it hits Cloudflare)
+ * 4. DetailsActivity's loadHybrid then hits the fresh cache entry (same
+ * server/url key) and goes straight to parsing
+ */
+public class DetailPrefetcher {
+
+    private static final String TAG = "DetailPrefetcher";
+    private static final long FOCUS_DWELL_MS = 300;
+    private static final int MAX_IN_FLIGHT = 2;
+
+    private static volatile DetailPrefetcher INSTANCE;
+
+    private final WebViewScraperManager scraperManager;
+    private final ServerRepository serverRepository;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Main thread only
+    private Runnable pendingDwell;
+    private String pendingKey;
+    private final Deque<CancellationToken> inFlight = new ArrayDeque<>();
+
+    private DetailPrefetcher(Context context) {
+        this.scraperManager = WebViewScraperManager.getInstance(context);
+        this.serverRepository = ServerRepository.getInstance(context);
+    }
+
+    public static DetailPrefetcher getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (DetailPrefetcher.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new DetailPrefetcher(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Report a focus change of a card that opens the detail page of
+     * serverId/url. Must be called on the main thread.
+     */
+    public void onFocusChanged(long serverId, String url, boolean hasFocus) {
+        if (serverId < 0 || url == null || url.isEmpty())
+            return;
+        String key = serverId + "|" + url;
+        if (!hasFocus) {
+            if (key.equals(pendingKey))
+                cancelPending();
+            return;
+        }
+
+        cancelPending();
+        pendingKey = key;
+        pendingDwell = () -> {
+            pendingDwell = null;
+            pendingKey = null;
+            serverRepository.getServerById(serverId, server -> {
+                if (server != null)
+                    mainHandler.post(() -> start(server, url));
+            });
+        };
+        mainHandler.postDelayed(pendingDwell, FOCUS_DWELL_MS);
+    }
+
+    /**
+     * Drop a dwell timer that has not fired yet (screen paused, focus left the
+     * grid). Fetches already running are left to finish into the cache.
+     */
+    public void cancelPending() {
+        if (pendingDwell != null)
+            mainHandler.removeCallbacks(pendingDwell);
+        pendingDwell = null;
+        pendingKey = null;
+    }
+
+    private void start(ServerEntity server, String url) {
+        if (inFlight.size() >= MAX_IN_FLIGHT) {
+            // Superseded: focus has moved on since the oldest one started
+            inFlight.pollFirst().cancel();
+        }
+        CancellationToken token = new CancellationToken();
+        inFlight.addLast(token);
+        Log.d(TAG, "Prefetching details: " + url);
+
+        scraperManager.loadHybrid(server, url, null, false, null, HttpEngine.Priority.BACKGROUND,
+                PageCache.PageType.DETAIL, token, new WebViewScraperManager.ScraperCallback() {
+                    @Override
+                    public void onSuccess(String html, Map<String, String> cookies) {
+                        mainHandler.post(() -> inFlight.remove(token));
+                    }
+
+                    @Override
+                    public void onError(String message) {
+                        Log.d(TAG, "Prefetch failed (" + message + "): " + url);
+                        mainHandler.post(() -> inFlight.remove(token));
+                    }
+                });
+    }
+}
@@ -0,0 +1,183 @@
+package com.omarflex5.data.scraper;
+
+import android.os.Handler;
+import android.util.Log;
+import android.webkit.JavascriptInterface;
+import android.webkit.WebView;
+
+import java.security.SecureRandom;
+
+/**
+ * Pulls page HTML out of a pooled WebView through a JavaScript interface.
+ *
+ * Flow:
+ * 1. Every pooled WebView gets its own extractor, registered as a JS
+ * interface before its first load
+ * 2. extract() runs a script that collects the outerHTML of the parser's
+ * selectors (plus title and meta tags), or the whole page when there are
+ * none or none match
+ * 3. The script sends the HTML in chunks to the interface, which runs on
+ * the WebView's bridge thread. Nothing is JSON-escaped, and nothing is
+ * unescaped on the main thread
+ * 4. The result is delivered on the main thread. If the bridge never
+ * reports completion, it falls back to returning outerHTML through
+ * evaluateJavascript
+ *
+ * Only one extraction runs per WebView at a time (one lease per view).
+ */
+public class HtmlExtractor {
+
+    private static final String TAG = "HtmlExtractor";
+    static final String INTERFACE_NAME = "OmarFlexExtractor";
+    private static final int CHUNK_CHARS = 256 * 1024;
+
+    public interface Callback {
+        /** html is null when the page could not be read */
+        void onExtracted(String html);
+    }
+
+    private final Handler mainHandler;
+    private final SecureRandom random = new SecureRandom();
+
+    // Guarded by this; written on the main thread, appended on the bridge thread
+    private String requestId;
+    private StringBuilder buffer;
+    private Callback callback;
+
+    HtmlExtractor(Handler mainHandler) {
+        this.mainHandler = mainHandler;
+    }
+
+    void attach(WebView view) {
+        view.addJavascriptInterface(this, INTERFACE_NAME);
+    }
+
+    /**
+     * Extract the current page. Must be called on the main thread.
+     *
+     * @param selectors CSS selectors of the regions the parser reads, null
+     *                  for the whole page
+     */
+    public void extract(WebView view, String[] selectors, Callback callback) {
+        String id = Long.toHexString(random.nextLong());
+        synchronized (this) {
+            this.requestId = id;
+            this.buffer = new StringBuilder();
+            this.callback = callback;
+        }
+
+        view.evaluateJavascript(buildScript(id, selectors), result -> {
+            // Interface calls are synchronous, so a finished script has
+            // delivered every chunk. Still pending means the bridge failed.
+            Callback pending = take(id);
+            if (pending != null) {
+                Log.w(TAG, "Bridge extraction failed (" + result + "), falling back to outerHTML");
+                extractOuterHtml(view, pending);
+            }
+        });
+    }
+
+    @JavascriptInterface
+    public void onChunk(String id, String chunk) {
+        synchronized (this) {
+            if (id.equals(requestId) && buffer != null) {
+                buffer.append(chunk);
+            }
+        }
+    }
+
+    @JavascriptInterface
+    public void onEnd(String id, int length) {
+        String html;
+        Callback done;
+        synchronized (this) {
+            if (!id.equals(requestId) || buffer == null)
+                return;
+            if (buffer.length() != length) {
+                // Left pending, so the script's result callback falls back
+                Log.w(TAG, "Incomplete extraction: " + buffer.length() + " of " + length + " chars");
+                return;
+            }
+            html = buffer.toString();
+            done = callback;
+            clear();
+        }
+        mainHandler.post(() -> done.onExtracted(html));
+    }
+
+    private synchronized Callback take(String id) {
+        if (!id.equals(requestId))
+            return null;
+        Callback pending = callback;
+        clear();
+        return pending;
+    }
+
+    private void clear() {
+        requestId = null;
+        buffer = null;
+        callback = null;
+    }
+
+    // ==================== SCRIPT ====================
+
+    private static String buildScript(String id, String[] selectors) {
+        StringBuilder list = new StringBuilder("[");
+        if (selectors != null) {
+            for (int i = 0; i < selectors.length; i++) {
+                if (i > 0)
+                    list.append(',');
+                list.append('\'').append(selectors[i].replace("\\", "\\\\").replace("'", "\\'")).append('\'');
+            }
+        }
+        list.append(']');
+
+        return "(function() {"
+                + "var b = window." + INTERFACE_NAME + "; if (!b) return 'no-bridge';"
+                + "var sels = " + list + ", html = null;"
+                + "if (sels.length) {"
+                + "  var found = document.querySelectorAll(sels.join(',')), parts = [], last = null;"
+                // Document order: skip elements nested in one already taken
+                + "  for (var i = 0; i < found.length; i++) {"
+                + "    if (last && last.contains(found[i])) continue;"
+                + "    last = found[i]; parts.push(last.outerHTML);"
+                + "  }"
+                + "  if (parts.length) {"
+                + "    var t = document.createElement('title'); t.textContent = document.title;"
+                + "    var head = t.outerHTML, metas = document.querySelectorAll('head meta');"
+                + "    for (var j = 0; j < metas.length; j++) head += metas[j].outerHTML;"
+                + "    html = '<html><head>' + head + '</head><body>' + parts.join('\\n') + '</body></html>';"
+                + "  }"
+                + "}"
+                + "if (html === null) html = document.documentElement.outerHTML;"
+                + "for (var k = 0; k < html.length;) {"
+                + "  var e = Math.min(k + " + CHUNK_CHARS + ", html.length), c = html.charCodeAt(e - 1);"
+                // Never split a surrogate pair across two chunks
+                + "  if (e < html.length && c >= 0xD800 && c <= 0xDBFF) e--;"
+                + "  b.onChunk('" + id + "', html.substring(k, e)); k = e;"
+                + "}"
+                + "b.onEnd('" + id + "', html.length);"
+                + "return 'ok';"
+                + "})();";
+    }
+
+    // ==================== FALLBACK ====================
+
+    private static void extractOuterHtml(WebView view, Callback callback) {
+        view.evaluateJavascript(
+                "(function() { return document.documentElement.outerHTML; })();",
+                html -> callback.onExtracted(html != null && !html.equals("null") ? unescapeJsString(html) : null));
+    }
+
+    private static String unescapeJsString(String jsString) {
+        // Remove surrounding quotes if present
+        if (jsString.startsWith("\"") && jsString.endsWith("\"")) {
+            jsString = jsString.substring(1, jsString.length() - 1);
+        }
+        return jsString.replace("\\u003C", "<")
+                .replace("\\\"", "\"")
+                .replace("\\n", "\n")
+                .replace("\\t", "\t")
+                .replace("\\\\", "\\");
+    }
+}
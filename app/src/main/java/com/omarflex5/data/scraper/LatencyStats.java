@@ -0,0 +1,112 @@
+package com.omarflex5.data.scraper;
+
+import android.util.Log;
+
+import com.google.gson.Gson;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rolling latency histograms for one server, one per request phase.
+ *
+ * Buckets are roughly log-spaced from 50 ms to 60 s. Each new sample decays
+ * the phase's existing weights by DECAY, so the histogram follows the
+ * server's recent behaviour (half-life of about 14 requests) rather than
+ * its whole history.
+ *
+ * Serialized into ServerEntity.latencyStatsJson.
+ */
+public class LatencyStats {
+
+    private static final String TAG = "LatencyStats";
+
+    public enum Phase {
+        /** Request sent until response headers (direct path) */
+        TTFB,
+        /** Response headers until the body is read (direct path) */
+        BODY,
+        /** Parsing the page into results */
+        PARSE,
+        /** Whole WebView load, CF challenge included */
+        WEBVIEW
+    }
+
+    private static final long[] BUCKET_UPPER_MS = {
+            50, 100, 150, 200, 300, 400, 600, 800, 1000, 1500, 2000, 3000, 4000, 6000, 8000,
+            10000, 15000, 20000, 30000, 45000, 60000
+    };
+    // Reported for samples beyond the last bucket
+    private static final long OVERFLOW_MS = 90000;
+    private static final double DECAY = 0.95;
+    // Weight needed before a percentile is trusted
+    private static final double MIN_WEIGHT = 3;
+
+    private static final Gson GSON = new Gson();
+
+    // Phase name -> weight per bucket (last slot is the overflow bucket)
+    private Map<String, double[]> histograms = new HashMap<>();
+
+    public static LatencyStats fromJson(String json) {
+        if (json != null && !json.isEmpty()) {
+            try {
+                LatencyStats stats = GSON.fromJson(json, LatencyStats.class);
+                if (stats != null && stats.histograms != null)
+                    return stats;
+            } catch (Exception e) {
+                Log.e(TAG, "Error parsing latency stats: " + e.getMessage());
+            }
+        }
+        return new LatencyStats();
+    }
+
+    public synchronized String toJson() {
+        return GSON.toJson(this);
+    }
+
+    public synchronized void record(Phase phase, long ms) {
+        double[] weights = histograms.get(phase.name());
+        if (weights == null || weights.length != BUCKET_UPPER_MS.length + 1) {
+            weights = new double[BUCKET_UPPER_MS.length + 1];
+            histograms.put(phase.name(), weights);
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] *= DECAY;
+        }
+        weights[bucketOf(ms)] += 1;
+    }
+
+    /**
+     * @param p percentile in 0..1
+     * @return upper bound of the bucket holding the percentile, or -1 while
+     *         there are too few samples
+     */
+    public synchronized long percentile(Phase phase, double p) {
+        double[] weights = histograms.get(phase.name());
+        if (weights == null)
+            return -1;
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        if (total < MIN_WEIGHT)
+            return -1;
+
+        double target = total * p;
+        double cumulative = 0;
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            cumulative += weights[i];
+            if (cumulative >= target)
+                return BUCKET_UPPER_MS[i];
+        }
+        return OVERFLOW_MS;
+    }
+
+    private static int bucketOf(long ms) {
+        for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+            if (ms <= BUCKET_UPPER_MS[i])
+                return i;
+        }
+        return BUCKET_UPPER_MS.length;
+    }
+}
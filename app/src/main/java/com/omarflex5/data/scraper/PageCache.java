@@ -0,0 +1,236 @@
+package com.omarflex5.data.scraper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.omarflex5.util.UrlHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size-bounded on-disk cache for scraped HTML pages.
+ *
+ * Keyed by serverId + UrlHelper.normalize(url) (+ POST body), so entries
+ * survive domain migrations. Each entry keeps the origin's ETag/Last-Modified
+ * so stale pages can be revalidated with a conditional request.
+ *
+ * Flow:
+ * 1. age < TTL of its page type -> served without touching the network
+ * 2. age < MAX_STALE -> served immediately, revalidated in the background
+ * 3. otherwise -> fetched; the old entry is only used if the fetch fails
+ *
+ * All disk I/O runs on a single background executor.
+ */
+public class PageCache {
+
+    private static final String TAG = "PageCache";
+    private static final String DIR_NAME = "page_cache";
+    private static final int FORMAT_VERSION = 1;
+    private static final long MAX_CACHE_BYTES = 20L * 1024 * 1024; // 20 MB
+    private static final long MAX_STALE_MS = TimeUnit.DAYS.toMillis(7);
+
+    public enum PageType {
+        /** Search result pages change often */
+        SEARCH(TimeUnit.MINUTES.toMillis(15)),
+        /** Movie/series/season/episode pages rarely change */
+        DETAIL(TimeUnit.HOURS.toMillis(12));
+
+        final long ttlMs;
+
+        PageType(long ttlMs) {
+            this.ttlMs = ttlMs;
+        }
+    }
+
+    public static class Entry {
+        public final String key;
+        public final String body;
+        public final String etag;
+        public final String lastModified;
+        public final long storedAt;
+
+        Entry(String key, String body, String etag, String lastModified, long storedAt) {
+            this.key = key;
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.storedAt = storedAt;
+        }
+
+        public boolean isFresh(PageType type) {
+            return System.currentTimeMillis() - storedAt < type.ttlMs;
+        }
+
+        public boolean isServableStale() {
+            return System.currentTimeMillis() - storedAt < MAX_STALE_MS;
+        }
+
+        public boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+
+    public interface LookupCallback {
+        void onResult(Entry entry);
+    }
+
+    private final File dir;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    PageCache(Context context) {
+        this.dir = new File(context.getCacheDir(), DIR_NAME);
+    }
+
+    public static String key(long serverId, String url, String postData) {
+        String key = serverId + "|" + UrlHelper.normalize(url);
+        if (postData != null) {
+            key += "|" + postData;
+        }
+        return key;
+    }
+
+    /**
+     * Look up an entry. The callback runs on the cache thread, null on miss.
+     */
+    public void get(String key, LookupCallback callback) {
+        executor.execute(() -> callback.onResult(read(key)));
+    }
+
+    public void put(String key, String body, String etag, String lastModified) {
+        if (body == null || body.isEmpty())
+            return;
+        executor.execute(() -> {
+            write(new Entry(key, body, etag, lastModified, System.currentTimeMillis()));
+            trim();
+        });
+    }
+
+    /**
+     * Origin answered 304: keep the body, restart its TTL.
+     */
+    public void touch(Entry entry, String etag, String lastModified) {
+        put(entry.key, entry.body,
+                etag != null ? etag : entry.etag,
+                lastModified != null ? lastModified : entry.lastModified);
+    }
+
+    public void clear() {
+        executor.execute(() -> {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    f.delete();
+                }
+            }
+        });
+    }
+
+    // ==================== DISK FORMAT ====================
+
+    private Entry read(String key) {
+        File file = fileFor(key);
+        if (!file.exists())
+            return null;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION)
+                return null;
+            String storedKey = in.readUTF();
+            if (!storedKey.equals(key))
+                return null; // hash collision
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+            long storedAt = in.readLong();
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream((int) file.length());
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bos.write(buffer, 0, read);
+            }
+            return new Entry(key, new String(bos.toByteArray(), StandardCharsets.UTF_8),
+                    etag.isEmpty() ? null : etag,
+                    lastModified.isEmpty() ? null : lastModified,
+                    storedAt);
+        } catch (Exception e) {
+            Log.w(TAG, "Dropping unreadable cache entry: " + e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    private void write(Entry entry) {
+        if (!dir.exists() && !dir.mkdirs())
+            return;
+        File file = fileFor(entry.key);
+        File tmp = new File(dir, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(entry.key);
+            out.writeUTF(entry.etag != null ? entry.etag : "");
+            out.writeUTF(entry.lastModified != null ? entry.lastModified : "");
+            out.writeLong(entry.storedAt);
+            out.write(entry.body.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to write cache entry: " + e.getMessage());
+            tmp.delete();
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+        }
+    }
+
+    /**
+     * Evict oldest-written entries until the directory fits MAX_CACHE_BYTES.
+     */
+    private void trim() {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+        long total = 0;
+        for (File f : files) {
+            total += f.length();
+        }
+        if (total <= MAX_CACHE_BYTES)
+            return;
+
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File f : files) {
+            if (total <= MAX_CACHE_BYTES)
+                break;
+            total -= f.length();
+            f.delete();
+        }
+        Log.d(TAG, "Trimmed page cache to " + total + " bytes");
+    }
+
+    private File fileFor(String key) {
+        return new File(dir, sha1(key));
+    }
+
+    private static String sha1(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            byte[] digest = md.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+}
@@ -43,6 +43,28 @@ public class ParserFactory {
         return parser;
     }
 
+    /**
+     * CSS selectors a WebView needs to return for this server's search pages.
+     * Null means the parser needs the whole page.
+     */
+    public static String[] getSearchRegions(String serverName) {
+        if (serverName == null)
+            return null;
+        switch (serverName.toLowerCase()) {
+            case "mycima":
+                return MyCimaParser.SEARCH_REGIONS;
+            case "faselhd":
+                return com.omarflex5.data.scraper.parsers.FaselHdParser.SEARCH_REGIONS;
+            case "akwam":
+                return com.omarflex5.data.scraper.parsers.AkwamParser.SEARCH_REGIONS;
+            case "oldakwam":
+                return com.omarflex5.data.scraper.parsers.OldAkwamParser.SEARCH_REGIONS;
+            default:
+                // ArabSeed falls back to scanning every list item
+                return null;
+        }
+    }
+
     /**
      * Get the search URLs for a server based on its specific strategy.
      */
@@ -87,7 +109,7 @@ public class ParserFactory {
             java.util.List<ParsedItem> results = new java.util.ArrayList<>();
 
             // Generic: Look for common card patterns
-            java.util.regex.Pattern cardPattern = java.util.regex.Pattern.compile(
+            java.util.regex.Pattern cardPattern = pattern(
                     "<a[^>]+href=\"([^\"]+)\"[^>]*>.*?" +
                             "<img[^>]+src=\"([^\"]+)\"[^>]*>.*?" +
                             "(?:<(?:h\\d|strong|span)[^>]*>([^<]+)</(?:h\\d|strong|span)>)?",
@@ -0,0 +1,210 @@
+package com.omarflex5.data.scraper;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.omarflex5.data.local.entity.ServerEntity;
+import com.omarflex5.data.network.ServerCookieStore;
+import com.omarflex5.data.repository.ServerRepository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+
+/**
+ * In-memory cookies, saved headers and latency stats for every server. Each
+ * is decoded once from its ServerEntity and written back only when a value
+ * changes.
+ *
+ * Flow:
+ * 1. session(server) decodes cfCookiesJson/headersJson/latencyStatsJson the
+ * first time a server is seen, and maps its host for the cookie jar
+ * 2. The scraper's OkHttp clients use this class as their CookieJar. Requests
+ * get the matching stored cookies, and Set-Cookie headers are merged back
+ * 3. WebView cookie sync (saving after a CF solve, restoring before a load)
+ * goes through the same store
+ * 4. Cookie changes are persisted by the caller (takeCookiesDirty), which
+ * also updates the entity it holds. Header changes are written behind, at
+ * most once per HEADER_FLUSH_DELAY_MS per server, latency samples once per
+ * LATENCY_FLUSH_DELAY_MS
+ */
+public class ServerSessions implements CookieJar {
+
+    private static final String TAG = "ServerSessions";
+    private static final long HEADER_FLUSH_DELAY_MS = 30_000;
+    private static final long LATENCY_FLUSH_DELAY_MS = 60_000;
+
+    public static class Session {
+        final long serverId;
+        final ServerCookieStore cookies;
+        final LatencyStats latency;
+        private final Map<String, String> headers;
+        // Guarded by this
+        private boolean cookiesDirty;
+        private boolean flushScheduled;
+        private boolean latencyFlushScheduled;
+
+        Session(long serverId, ServerCookieStore cookies, Map<String, String> headers, LatencyStats latency) {
+            this.serverId = serverId;
+            this.cookies = cookies;
+            this.headers = headers;
+            this.latency = latency;
+        }
+
+        public ServerCookieStore getCookies() {
+            return cookies;
+        }
+
+        public LatencyStats getLatency() {
+            return latency;
+        }
+
+        public synchronized Map<String, String> getHeaders() {
+            return new HashMap<>(headers);
+        }
+
+        /**
+         * Whether cookies changed (through the jar) since the last call.
+         */
+        public synchronized boolean takeCookiesDirty() {
+            boolean dirty = cookiesDirty;
+            cookiesDirty = false;
+            return dirty;
+        }
+
+        synchronized void markCookiesDirty() {
+            cookiesDirty = true;
+        }
+    }
+
+    private final ServerRepository serverRepository;
+    private final Gson gson = new Gson();
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Session> byHost = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+
+    ServerSessions(ServerRepository serverRepository) {
+        this.serverRepository = serverRepository;
+    }
+
+    /**
+     * The session for a server, decoded from the entity on first use.
+     */
+    public Session session(ServerEntity server) {
+        Session session = sessions.get(server.getId());
+        if (session == null) {
+            session = sessions.computeIfAbsent(server.getId(), id -> new Session(id,
+                    ServerCookieStore.fromJson(server.getCfCookiesJson(), server.getBaseUrl(),
+                            server.getCfCookiesExpireAt()),
+                    decodeHeaders(server.getHeadersJson()),
+                    LatencyStats.fromJson(server.getLatencyStatsJson())));
+        }
+        // The base URL can move (redirects, remote config)
+        HttpUrl base = server.getBaseUrl() != null ? HttpUrl.parse(server.getBaseUrl()) : null;
+        if (base != null)
+            byHost.put(base.host(), session);
+        return session;
+    }
+
+    /**
+     * Set a saved header. Persisted later, and only if the value changed.
+     */
+    public void putHeader(ServerEntity server, String name, String value) {
+        Session session = session(server);
+        synchronized (session) {
+            if (value.equals(session.headers.get(name)))
+                return;
+            session.headers.put(name, value);
+            if (session.flushScheduled)
+                return;
+            session.flushScheduled = true;
+        }
+        flusher.schedule(() -> flushHeaders(session), HEADER_FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushHeaders(Session session) {
+        Map<String, String> snapshot;
+        synchronized (session) {
+            session.flushScheduled = false;
+            snapshot = new HashMap<>(session.headers);
+        }
+        serverRepository.saveHeaders(session.serverId, snapshot);
+    }
+
+    /**
+     * Add a latency sample. Persisted later, with whatever else arrives
+     * before the flush.
+     */
+    public void recordLatency(ServerEntity server, LatencyStats.Phase phase, long ms) {
+        Session session = session(server);
+        session.latency.record(phase, ms);
+        synchronized (session) {
+            if (session.latencyFlushScheduled)
+                return;
+            session.latencyFlushScheduled = true;
+        }
+        flusher.schedule(() -> {
+            synchronized (session) {
+                session.latencyFlushScheduled = false;
+            }
+            serverRepository.saveLatencyStats(session.serverId, session.latency.toJson());
+        }, LATENCY_FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private Map<String, String> decodeHeaders(String json) {
+        if (json != null && !json.isEmpty()) {
+            try {
+                Map<String, String> headers = gson.fromJson(json, new TypeToken<Map<String, String>>() {
+                }.getType());
+                if (headers != null)
+                    return headers;
+            } catch (Exception e) {
+                Log.e(TAG, "Error parsing saved headers: " + e.getMessage());
+            }
+        }
+        return new HashMap<>();
+    }
+
+    // ==================== COOKIE JAR ====================
+
+    @NonNull
+    @Override
+    public List<Cookie> loadForRequest(@NonNull HttpUrl url) {
+        Session session = sessionFor(url.host());
+        if (session == null)
+            return Collections.emptyList();
+        return session.cookies.cookiesFor(url, System.currentTimeMillis());
+    }
+
+    @Override
+    public void saveFromResponse(@NonNull HttpUrl url, @NonNull List<Cookie> cookies) {
+        Session session = sessionFor(url.host());
+        if (session != null && session.cookies.merge(cookies, System.currentTimeMillis()))
+            session.markCookiesDirty();
+    }
+
+    // Exact host first, then parent domains (cookies for .example.com)
+    private Session sessionFor(String host) {
+        String candidate = host;
+        while (candidate != null) {
+            Session session = byHost.get(candidate);
+            if (session != null)
+                return session;
+            int dot = candidate.indexOf('.');
+            candidate = dot >= 0 && candidate.indexOf('.', dot + 1) >= 0 ? candidate.substring(dot + 1) : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,294 @@
+package com.omarflex5.data.scraper;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.net.Uri;
+import android.os.Handler;
+import android.util.Log;
+import android.view.ViewGroup;
+import android.webkit.CookieManager;
+import android.webkit.WebView;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded pool of pre-initialized WebViews used by the scraper.
+ *
+ * Flow:
+ * 1. Pool size is chosen from device memory (1 on low-RAM TV boxes, up to 3)
+ * 2. Callers acquire a Lease (async for background loads, immediate for UI)
+ * 3. A lease may be scoped to a host: two leases for the same host never run
+ * at once, so parallel CF solves cannot clobber each other's cookies
+ * 4. On release the WebView is detached, its clients are reset and it goes back
+ * to the idle queue (overflow views are destroyed instead)
+ * 5. Each WebView carries its own HtmlExtractor bridge, registered before its
+ * first load so it is available on every page
+ *
+ * All pool state is confined to the main thread.
+ */
+public class WebViewPool {
+
+    private static final String TAG = "WebViewPool";
+
+    private final Context context;
+    private final Handler mainHandler;
+    private final int maxSize;
+
+    private final ArrayDeque<WebView> idle = new ArrayDeque<>();
+    private final ArrayDeque<PendingLease> waiters = new ArrayDeque<>();
+    private final Set<String> busyHosts = new HashSet<>();
+    private final Map<WebView, HtmlExtractor> extractors = new HashMap<>();
+    private int created = 0;
+
+    public interface LeaseCallback {
+        void onLeased(Lease lease);
+    }
+
+    private static class PendingLease {
+        final String scopeHost;
+        final LeaseCallback callback;
+
+        PendingLease(String scopeHost, LeaseCallback callback) {
+            this.scopeHost = scopeHost;
+            this.callback = callback;
+        }
+    }
+
+    WebViewPool(Context context, Handler mainHandler) {
+        this.context = context.getApplicationContext();
+        this.mainHandler = mainHandler;
+        this.maxSize = computePoolSize(this.context);
+        Log.d(TAG, "WebView pool size: " + maxSize);
+    }
+
+    /**
+     * Pick a pool size from the device memory class.
+     * Each WebView renderer costs tens of MB, so low-end boxes get a single view.
+     */
+    static int computePoolSize(Context context) {
+        ActivityManager am = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        if (am == null || am.isLowRamDevice()) {
+            return 1;
+        }
+        int memoryClass = am.getMemoryClass();
+        if (memoryClass >= 256) {
+            return 3;
+        }
+        if (memoryClass >= 128) {
+            return 2;
+        }
+        return 1;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Pre-create all pooled WebViews on the main thread.
+     */
+    public void initialize() {
+        mainHandler.post(() -> {
+            while (created < maxSize) {
+                idle.add(createWebView());
+                created++;
+            }
+            Log.d(TAG, "Pool initialized with " + created + " WebViews");
+        });
+    }
+
+    /**
+     * Acquire a WebView asynchronously. The callback runs on the main thread once
+     * a view is free and no other lease holds the same host.
+     *
+     * @param scopeHost Host this lease works on (null = unscoped)
+     */
+    public void acquire(String scopeHost, LeaseCallback callback) {
+        mainHandler.post(() -> {
+            PendingLease pending = new PendingLease(scopeHost, callback);
+            if (!tryGrant(pending)) {
+                waiters.add(pending);
+                Log.d(TAG, "No free WebView for " + scopeHost + ", queued (waiters=" + waiters.size() + ")");
+            }
+        });
+    }
+
+    /**
+     * Acquire a WebView immediately for interactive screens (e.g. SnifferActivity).
+     * Must be called on the main thread. If the pool is exhausted an overflow
+     * WebView is created and destroyed on release, so the UI never waits.
+     */
+    public Lease acquireNow() {
+        WebView view = idle.poll();
+        if (view == null && created < maxSize) {
+            view = createWebView();
+            created++;
+        }
+        if (view != null) {
+            return new Lease(view, null, true);
+        }
+        Log.d(TAG, "Pool exhausted, creating overflow WebView");
+        return new Lease(createWebView(), null, false);
+    }
+
+    private boolean tryGrant(PendingLease pending) {
+        if (pending.scopeHost != null && busyHosts.contains(pending.scopeHost)) {
+            return false;
+        }
+
+        WebView view = idle.poll();
+        if (view == null && created < maxSize) {
+            view = createWebView();
+            created++;
+        }
+        if (view == null) {
+            return false;
+        }
+
+        if (pending.scopeHost != null) {
+            busyHosts.add(pending.scopeHost);
+        }
+        pending.callback.onLeased(new Lease(view, pending.scopeHost, true));
+        return true;
+    }
+
+    private void release(Lease lease) {
+        WebView view = lease.webView;
+        resetWebView(view);
+
+        if (lease.scopeHost != null) {
+            busyHosts.remove(lease.scopeHost);
+        }
+
+        if (lease.pooled) {
+            idle.add(view);
+        } else {
+            extractors.remove(view);
+            view.destroy();
+        }
+
+        // Hand freed capacity to the first waiter whose host is not busy
+        Iterator<PendingLease> it = waiters.iterator();
+        while (it.hasNext() && !idle.isEmpty()) {
+            PendingLease pending = it.next();
+            if (tryGrant(pending)) {
+                it.remove();
+            }
+        }
+    }
+
+    private WebView createWebView() {
+        WebView view = new WebView(context);
+        com.omarflex5.data.scraper.config.WebConfig.configure(view);
+        view.setWebChromeClient(new com.omarflex5.data.scraper.client.CoreWebChromeClient(null));
+        HtmlExtractor extractor = new HtmlExtractor(mainHandler);
+        extractor.attach(view);
+        extractors.put(view, extractor);
+        return view;
+    }
+
+    private void resetWebView(WebView view) {
+        if (view.getParent() != null) {
+            ((ViewGroup) view.getParent()).removeView(view);
+        }
+        view.stopLoading();
+        // Reset clients/interfaces to avoid leaks or unintended behavior
+        view.setWebViewClient(null);
+        view.setWebChromeClient(new com.omarflex5.data.scraper.client.CoreWebChromeClient(null));
+        view.setTag(null);
+        view.loadUrl("about:blank");
+        view.clearHistory();
+    }
+
+    /**
+     * Extract the host used for lease scoping.
+     */
+    public static String hostOf(String url) {
+        if (url == null)
+            return null;
+        try {
+            return Uri.parse(url).getHost();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Expire only the cookies visible to the given URL.
+     * CookieManager is process-wide, so wiping everything would break other
+     * leases that are solving challenges for other servers in parallel.
+     */
+    public static void clearCookiesFor(String url, Runnable onComplete) {
+        CookieManager cm = CookieManager.getInstance();
+        String current = cm.getCookie(url);
+        String host = hostOf(url);
+        if (current != null && host != null) {
+            for (String part : current.split(";")) {
+                String[] kv = part.trim().split("=", 2);
+                if (kv.length == 0 || kv[0].isEmpty())
+                    continue;
+                String expired = kv[0] + "=; Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:00 GMT; Path=/";
+                cm.setCookie(url, expired); // host-only variant
+                cm.setCookie(url, expired + "; Domain=." + host); // domain variant (CF sets these)
+            }
+            cm.flush();
+            Log.d(TAG, "Cleared cookies for " + host);
+        }
+        if (onComplete != null)
+            onComplete.run();
+    }
+
+    // ==================== LEASE ====================
+
+    /**
+     * A WebView on loan from the pool. Must be released exactly once.
+     */
+    public final class Lease {
+        private final WebView webView;
+        private final String scopeHost;
+        private final boolean pooled;
+        private boolean released = false;
+
+        private Lease(WebView webView, String scopeHost, boolean pooled) {
+            this.webView = webView;
+            this.scopeHost = scopeHost;
+            this.pooled = pooled;
+        }
+
+        public WebView getWebView() {
+            return webView;
+        }
+
+        public String getScopeHost() {
+            return scopeHost;
+        }
+
+        public HtmlExtractor getExtractor() {
+            return extractors.get(webView);
+        }
+
+        /**
+         * Expire this lease's cookies for the given URL before a clean challenge.
+         */
+        public void clearCookiesFor(String url, Runnable onComplete) {
+            WebViewPool.clearCookiesFor(url, onComplete);
+        }
+
+        /**
+         * Return the WebView to the pool. Safe to call from any thread.
+         */
+        public void release() {
+            mainHandler.post(() -> {
+                if (released)
+                    return;
+                released = true;
+                WebViewPool.this.release(this);
+            });
+        }
+    }
+}
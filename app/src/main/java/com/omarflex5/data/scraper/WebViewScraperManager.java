@@ -18,15 +18,14 @@ import android.webkit.WebSettings;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.omarflex5.data.local.entity.ServerEntity;
 import com.omarflex5.data.repository.ServerRepository;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -42,25 +41,31 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class WebViewScraperManager {
 
     private static final String TAG = "WebViewScraper";
-    private static final long CF_WAIT_TIMEOUT_MS = 30000; // 30 seconds
-    private static final long PAGE_LOAD_TIMEOUT_MS = 20000; // 20 seconds
+    private static final long CF_WAIT_TIMEOUT_MS = 30000; // 30 seconds, until the server has latency stats
+    private static final long MIN_CF_WAIT_TIMEOUT_MS = 15000;
+    public static final long MAX_CF_WAIT_TIMEOUT_MS = 45000;
+
+    /** Reported to callbacks whose CancellationToken was cancelled */
+    public static final String ERROR_CANCELLED = "CANCELLED";
 
     private static volatile WebViewScraperManager INSTANCE;
 
     private final Context context;
     private final ServerRepository serverRepository;
     private final Handler mainHandler;
-    private final Gson gson;
 
-    private WebView webView;
+    private final WebViewPool webViewPool;
+    private final PageCache pageCache;
+    private final ServerSessions sessions;
     private Dialog visibleDialog; // Dialog to hold WebView if visible
-    private boolean isWebViewReady = false;
 
     private WebViewScraperManager(Context context) {
         this.context = context.getApplicationContext();
         this.serverRepository = ServerRepository.getInstance(context);
         this.mainHandler = new Handler(Looper.getMainLooper());
-        this.gson = new Gson();
+        this.webViewPool = new WebViewPool(this.context, mainHandler);
+        this.pageCache = new PageCache(this.context);
+        this.sessions = new ServerSessions(serverRepository);
     }
 
     public static WebViewScraperManager getInstance(Context context) {
@@ -75,74 +80,35 @@ public class WebViewScraperManager {
     }
 
     /**
-     * Initialize the hidden WebView on the main thread.
+     * Pre-initialize the pooled WebViews on the main thread.
      */
     public void initialize() {
-        mainHandler.post(() -> {
-            if (webView == null) {
-                webView = new WebView(context);
-                configureWebView(webView);
-                isWebViewReady = true;
-                Log.d(TAG, "WebView initialized");
-            }
-        });
-    }
-
-    private void configureWebView(WebView webView) {
-        // Unified Configuration
-        com.omarflex5.data.scraper.config.WebConfig.configure(webView);
-
-        // Add console logging
-        webView.setWebChromeClient(new com.omarflex5.data.scraper.client.CoreWebChromeClient(null)); // No UI controller
-                                                                                                     // needed for
-                                                                                                     // ChromeClient
-                                                                                                     // here yet
+        webViewPool.initialize();
     }
 
     /**
-     * Borrow the shared WebView for use in an Activity (e.g. SnifferActivity).
-     * This ensures we use the EXACT SAME session/cookies/storage as the scraper.
+     * Lease a WebView for use in an Activity (e.g. SnifferActivity).
+     * Pooled views share the process-wide CookieManager, so the session/CF
+     * tokens are the same as the scraper's. Must be called on the main thread.
      * The caller is responsible for attaching it to their view hierarchy.
      */
-    public WebView borrowWebView() {
-        if (webView == null) {
-            initialize(); // Try to init if null, though it should be ready
-            // If initialized on this thread, webView might still be null if posted.
-            // But usually scraper runs first.
-            if (webView == null) {
-                // Force sync init if absolutely needed (rare fallback)
-                webView = new WebView(context);
-                configureWebView(webView);
-            }
-        }
-
-        // Detach from any existing parent
-        if (webView.getParent() != null) {
-            ((ViewGroup) webView.getParent()).removeView(webView);
-        }
-
+    public WebViewPool.Lease leaseWebView() {
         // Hide global dialog if showing
         if (visibleDialog != null && visibleDialog.isShowing()) {
             visibleDialog.dismiss();
             visibleDialog = null;
         }
-
-        return webView;
+        return webViewPool.acquireNow();
     }
 
     /**
-     * Return the WebView after use.
-     * The borrower should detach it before calling this, but we check anyway.
+     * Return a leased WebView after use.
+     * The pool detaches it and resets its clients, so the borrower does not
+     * need to clean up.
      */
-    public void returnWebView(WebView view) {
-        if (view == this.webView) {
-            if (view.getParent() != null) {
-                ((ViewGroup) view.getParent()).removeView(view);
-            }
-            // Reset clients/interfaces to avoid leaks or unintended behavior
-            view.setWebViewClient(null);
-            view.setWebChromeClient(null);
-            view.loadUrl("about:blank"); // Clear page content
+    public void returnWebView(WebViewPool.Lease lease) {
+        if (lease != null) {
+            lease.release();
         }
     }
 
@@ -150,28 +116,109 @@ public class WebViewScraperManager {
         loadWithCfBypass(server, url, null, activity, callback);
     }
 
+    public void loadWithCfBypass(ServerEntity server, String url, String postData, Activity activity,
+            ScraperCallback callback) {
+        loadWithCfBypass(server, url, postData, activity, null, callback);
+    }
+
+    public void loadWithCfBypass(ServerEntity server, String url, String postData, Activity activity,
+            com.omarflex5.data.network.CancellationToken token, ScraperCallback callback) {
+        loadWithCfBypass(server, url, postData, activity, token, null, callback);
+    }
+
     /**
      * Load a URL and extract CF cookies + page HTML.
+     * Runs on a pooled WebView, so loads for different hosts proceed in parallel.
+     * Cancelling the token stops the load and returns the WebView to the pool.
+     *
+     * @param regions CSS selectors of the parts of the page the parser reads
+     *                (see ParserFactory.getSearchRegions), null for the whole page
      */
     public void loadWithCfBypass(ServerEntity server, String url, String postData, Activity activity,
+            com.omarflex5.data.network.CancellationToken token, String[] regions, ScraperCallback callback) {
+        loadWithCfBypass(server, url, postData, activity, token, regions, false, callback);
+    }
+
+    /**
+     * Renew a server's clearance ahead of its expiry (ClearanceRefreshWorker).
+     * Loads the base URL headless on a clean host, so the challenge runs again
+     * instead of reusing the clearance that is about to expire. May be called
+     * from any thread.
+     *
+     * Succeeds only if a new cf_clearance was stored. A load that ends on the
+     * CF wait timeout (unsolved challenge) or brings back the old value is an
+     * error, so the worker tries again on its next run.
+     */
+    public void refreshClearance(ServerEntity server, com.omarflex5.data.network.CancellationToken token,
             ScraperCallback callback) {
-        if (!isWebViewReady) {
-            initialize();
-            // Retry after a short delay
-            mainHandler.postDelayed(() -> loadWithCfBypass(server, url, activity, callback), 500);
-            return;
-        }
+        String previous = getCookieStore(server).asMap(server.getBaseUrl(), System.currentTimeMillis())
+                .get(com.omarflex5.data.network.ServerCookieStore.CLEARANCE);
+        ScraperCallback verified = new ScraperCallback() {
+            @Override
+            public void onSuccess(String html, Map<String, String> cookies) {
+                onSuccess(html, cookies, Origin.NETWORK);
+            }
 
-        mainHandler.post(() -> {
-            String resolvedUrl = com.omarflex5.util.UrlHelper.restore(server.getBaseUrl(), url);
+            @Override
+            public void onSuccess(String html, Map<String, String> cookies, Origin origin) {
+                // extractAndSave has merged the WebView's cookies by now
+                String current = getCookieStore(server).asMap(server.getBaseUrl(), System.currentTimeMillis())
+                        .get(com.omarflex5.data.network.ServerCookieStore.CLEARANCE);
+                if (origin == Origin.WEBVIEW_TIMEOUT) {
+                    callback.onError("Challenge not solved");
+                } else if (current == null || current.equals(previous)) {
+                    callback.onError("No new clearance");
+                } else {
+                    callback.onSuccess(html, cookies, origin);
+                }
+            }
+
+            @Override
+            public void onError(String message) {
+                callback.onError(message);
+            }
+        };
+        mainHandler.post(() -> loadWithCfBypass(server, server.getBaseUrl(), null, null, token, null, true,
+                verified));
+    }
+
+    /**
+     * @param freshSession start without the stored cookies even if they are
+     *                     still valid
+     */
+    private void loadWithCfBypass(ServerEntity server, String url, String postData, Activity activity,
+            com.omarflex5.data.network.CancellationToken token, String[] regions, boolean freshSession,
+            ScraperCallback callback) {
+        String resolvedUrl = com.omarflex5.util.UrlHelper.restore(server.getBaseUrl(), url);
+
+        webViewPool.acquire(WebViewPool.hostOf(resolvedUrl), lease -> {
+            WebView webView = lease.getWebView();
+            if (token != null && token.isCancelled()) {
+                lease.release();
+                callback.onError(ERROR_CANCELLED);
+                return;
+            }
             Log.d(TAG, "Loading URL with CF Bypass: " + resolvedUrl + " (Original: " + url + ")");
 
             // Show Dialog if Activity provided
             if (activity != null && !activity.isFinishing()) {
-                showWebViewDialog(activity);
+                showWebViewDialog(activity, webView);
             }
 
             AtomicBoolean completed = new AtomicBoolean(false);
+            long[] loadStartedAt = { android.os.SystemClock.elapsedRealtime() };
+
+            if (token != null) {
+                token.onCancel(() -> mainHandler.post(() -> {
+                    if (!completed.getAndSet(true)) {
+                        Log.d(TAG, "CF bypass cancelled: " + resolvedUrl);
+                        dismissDialog(webView);
+                        webView.stopLoading();
+                        lease.release();
+                        callback.onError(ERROR_CANCELLED);
+                    }
+                }));
+            }
 
             // Implement Controller to link Client events to Manager logic
             com.omarflex5.data.scraper.client.WebViewController controller = new com.omarflex5.data.scraper.client.WebViewController() {
@@ -181,7 +228,7 @@ public class WebViewScraperManager {
 
                 @Override
                 public void updateStatus(String message) {
-                    updateDialogStatus(message);
+                    updateDialogStatus(webView, message);
                 }
 
                 @Override
@@ -195,7 +242,7 @@ public class WebViewScraperManager {
                     cfWasDetected = true;
                     // Cancel any pending success check because we are definitely in a challenge
                     cancelPendingSuccess();
-                    updateDialogStatus("⚠️ Cloudflare Detected. Waiting...");
+                    updateDialogStatus(webView, "⚠️ Cloudflare Detected. Waiting...");
                     // Don't extract - just wait for the next onPageFinished after CF redirects
                 }
 
@@ -229,8 +276,12 @@ public class WebViewScraperManager {
 
                     pendingSuccessTask = () -> {
                         if (!completed.getAndSet(true)) {
+                            // A visible dialog waits on the user, not the server
+                            if (activity == null)
+                                sessions.recordLatency(server, LatencyStats.Phase.WEBVIEW,
+                                        android.os.SystemClock.elapsedRealtime() - loadStartedAt[0]);
                             checkAndHandleRedirect(server, url);
-                            extractAndSave(webView, server, callback);
+                            extractAndSave(lease, server, regions, false, callback);
                         }
                     };
 
@@ -257,48 +308,68 @@ public class WebViewScraperManager {
             webView.setWebChromeClient(new com.omarflex5.data.scraper.client.CoreWebChromeClient(controller));
 
             // Timeout handler
+            long waitTimeoutMs = cfWaitTimeoutMs(server);
             mainHandler.postDelayed(() -> {
                 if (!completed.getAndSet(true)) {
-                    Log.w(TAG, "Timeout waiting for page");
-                    extractAndSave(webView, server, callback);
+                    Log.w(TAG, "Timeout waiting for page (" + waitTimeoutMs + " ms)");
+                    // Counted at the timeout so a too-short wait grows back
+                    if (activity == null)
+                        sessions.recordLatency(server, LatencyStats.Phase.WEBVIEW, waitTimeoutMs);
+                    extractAndSave(lease, server, regions, true, callback);
                 }
-            }, CF_WAIT_TIMEOUT_MS);
+            }, waitTimeoutMs);
+
+            Runnable startLoad = () -> {
+                loadStartedAt[0] = android.os.SystemClock.elapsedRealtime();
+                if (postData != null) {
+                    webView.postUrl(resolvedUrl, postData.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+                } else {
+                    webView.loadUrl(resolvedUrl);
+                }
+            };
 
             // Clear cookies for clean start if they're expired
-            // Clear cookies for clean start if they're expired
-            if (server.needsCookieRefresh()) {
-                Log.d(TAG, "Cookies expired or missing, clearing WebView cookies.");
-                CookieManager.getInstance().removeAllCookies(v -> {
-                    // Safe to load after clear
-                    if (postData != null) {
-                        webView.postUrl(resolvedUrl, postData.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                    } else {
-                        webView.loadUrl(resolvedUrl);
-                    }
-                });
+            if (freshSession || server.needsCookieRefresh()) {
+                Log.d(TAG, "Cookies expired, missing or being renewed, clearing WebView cookies for this host.");
+                lease.clearCookiesFor(resolvedUrl, startLoad);
             } else {
                 // Restore valid cookies from DB to ensure WebView has them (Fixes restart
                 // issue)
-                // Now Async: Must wait for completion
-                restoreCookiesToWebView(server, () -> {
-                    if (postData != null) {
-                        webView.postUrl(resolvedUrl, postData.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                    } else {
-                        webView.loadUrl(resolvedUrl);
-                    }
-                });
+                restoreCookiesToWebView(server, resolvedUrl, startLoad);
             }
         });
     }
 
-    private void updateDialogStatus(String message) {
+    /**
+     * How long a WebView load may take before its page is taken as is: 1.5x
+     * the server's p95 load time, within MIN/MAX_CF_WAIT_TIMEOUT_MS.
+     */
+    private long cfWaitTimeoutMs(ServerEntity server) {
+        long p95 = sessions.session(server).getLatency().percentile(LatencyStats.Phase.WEBVIEW, 0.95);
+        if (p95 < 0)
+            return CF_WAIT_TIMEOUT_MS;
+        return Math.max(MIN_CF_WAIT_TIMEOUT_MS, Math.min(MAX_CF_WAIT_TIMEOUT_MS, p95 * 3 / 2));
+    }
+
+    /**
+     * Rolling latency histograms of a server (direct fetch, parse, WebView).
+     */
+    public LatencyStats getLatencyStats(ServerEntity server) {
+        return sessions.session(server).getLatency();
+    }
+
+    public void recordLatency(ServerEntity server, LatencyStats.Phase phase, long ms) {
+        sessions.recordLatency(server, phase, ms);
+    }
+
+    private void updateDialogStatus(WebView webView, String message) {
         if (webView != null && webView.getTag() instanceof android.widget.TextView) {
             android.widget.TextView st = (android.widget.TextView) webView.getTag();
             st.post(() -> st.setText(message));
         }
     }
 
-    private void showWebViewDialog(Activity activity) {
+    private void showWebViewDialog(Activity activity, WebView webView) {
         Log.d(TAG, "showWebViewDialog called for activity: " + activity.getClass().getSimpleName());
         try {
             if (visibleDialog != null && visibleDialog.isShowing()) {
@@ -347,23 +418,23 @@ public class WebViewScraperManager {
             webView.requestFocus();
             Log.d(TAG, "WebView Dialog shown with Status Bar.");
 
-            // Store status text reference to update later (simple hack since we don't have
-            // a class member for it yet)
+            // Store status text reference to update later (cleared when the lease is
+            // returned to the pool)
             webView.setTag(statusText);
         } catch (Exception e) {
             Log.e(TAG, "Failed to show WebView Dialog", e);
         }
     }
 
-    private void dismissDialog() {
+    private void dismissDialog(WebView webView) {
         mainHandler.post(() -> {
             try {
-                if (visibleDialog != null && visibleDialog.isShowing()) {
+                // Only dismiss the dialog if it is hosting this lease's WebView
+                if (visibleDialog != null && visibleDialog.isShowing() && webView.getTag() != null) {
                     visibleDialog.dismiss();
                     visibleDialog = null;
                 }
-                // Detach webview to be safe?
-                if (webView != null && webView.getParent() != null) {
+                if (webView.getParent() != null) {
                     ((ViewGroup) webView.getParent()).removeView(webView);
                 }
             } catch (Exception e) {
@@ -373,14 +444,19 @@ public class WebViewScraperManager {
     }
 
     /**
-     * Extract cookies and HTML from loaded page.
-     */
-    /**
-     * EXTRACT and SAVE cookies from a WebView instance.
+     * EXTRACT and SAVE cookies from a leased WebView, then return it to the pool.
+     * The HTML comes through the lease's HtmlExtractor, limited to regions when
+     * given.
+     *
+     * @param timedOut the CF wait ran out; the page is delivered with origin
+     *                 WEBVIEW_TIMEOUT since it is usually the unsolved challenge
      */
-    private void extractAndSave(WebView view, ServerEntity server, ScraperCallback callback) {
+    private void extractAndSave(WebViewPool.Lease lease, ServerEntity server, String[] regions, boolean timedOut,
+            ScraperCallback callback) {
+        WebView view = lease.getWebView();
+
         // Dismiss UI
-        dismissDialog();
+        dismissDialog(view);
 
         // Get cookies
         String cookieString = CookieManager.getInstance().getCookie(server.getBaseUrl());
@@ -392,19 +468,18 @@ public class WebViewScraperManager {
         Map<String, String> cookies = parseCookies(cookieString);
 
         // Get page HTML
-        view.evaluateJavascript(
-                "(function() { return document.documentElement.outerHTML; })();",
-                html -> {
-                    if (html != null && !html.equals("null")) {
-                        // Unescape the JS string
-                        String unescaped = unescapeJsString(html);
-                        callback.onSuccess(unescaped, cookies);
-                        serverRepository.recordSuccess(server);
-                    } else {
-                        callback.onError("Failed to get page HTML");
-                        serverRepository.recordFailure(server);
-                    }
-                });
+        lease.getExtractor().extract(view, regions, html -> {
+            lease.release();
+            if (html != null) {
+                callback.onSuccess(html, cookies, timedOut ? Origin.WEBVIEW_TIMEOUT : Origin.NETWORK);
+                // A timeout page is usually the unsolved challenge: not a success
+                if (!timedOut)
+                    serverRepository.recordSuccess(server);
+            } else {
+                callback.onError("Failed to get page HTML");
+                serverRepository.recordFailure(server);
+            }
+        });
     }
 
     /**
@@ -425,25 +500,60 @@ public class WebViewScraperManager {
         if (server == null || cookies == null || cookies.isEmpty())
             return;
 
-        String cookiesJson = gson.toJson(cookies);
-        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(24);
+        // WebView cookies have no attributes; known ones keep theirs, new ones get estimates
+        com.omarflex5.data.network.ServerCookieStore store = getCookieStore(server);
+        if (store.mergeFromWebView(server.getBaseUrl(), cookies, System.currentTimeMillis())) {
+            persistCookies(server, store);
+        }
+
+        // Flush to disk to ensure WebView persistence
+        CookieManager.getInstance().flush();
+
+        Log.d(TAG, "External Save: Persisted " + cookies.size() + " cookies for " + server.getName());
+    }
+
+    /**
+     * Save the store to DB (async) and to the in-memory entity (sync, CRITICAL
+     * for the next request). The entity's expiry is the session's real one.
+     */
+    private void persistCookies(ServerEntity server, com.omarflex5.data.network.ServerCookieStore store) {
+        String cookiesJson = store.toJson();
+        long expiresAt = store.sessionExpiresAt(System.currentTimeMillis());
 
-        // 1. Save to DB (Async)
         serverRepository.saveCfCookies(server.getId(), cookiesJson, expiresAt);
 
-        // 2. Update In-Memory Object (Sync) - CRITICAL for next request
         server.setCfCookiesJson(cookiesJson);
         server.setCfCookiesExpireAt(expiresAt);
+    }
 
-        // 3. Flush to disk to ensure WebView persistence
-        CookieManager.getInstance().flush();
-
-        Log.d(TAG, "External Save: Persisted " + cookies.size() + " cookies for " + server.getName());
+    /**
+     * After a direct response: persist what the cookie jar merged from its
+     * Set-Cookie headers, and whether the clearance held.
+     */
+    private void updateCookiesFromResponse(ServerEntity server, boolean challenged) {
+        long now = System.currentTimeMillis();
+        ServerSessions.Session session = sessions.session(server);
+        com.omarflex5.data.network.ServerCookieStore store = session.getCookies();
+        boolean changed = session.takeCookiesDirty();
+        changed |= challenged ? store.onChallenged(now) : store.onAccepted(now);
+        if (changed) {
+            persistCookies(server, store);
+        }
     }
 
     public void search(ServerEntity server, String url, boolean allowWebViewFallback, Activity activity,
             ScraperCallback callback) {
-        loadHybrid(server, url, allowWebViewFallback, activity, callback);
+        search(server, url, allowWebViewFallback, activity, null, callback);
+    }
+
+    public void search(ServerEntity server, String url, boolean allowWebViewFallback, Activity activity,
+            com.omarflex5.data.network.CancellationToken token, ScraperCallback callback) {
+        loadHybrid(server, url, null, allowWebViewFallback, activity,
+                com.omarflex5.data.network.HttpEngine.Priority.USER, PageCache.PageType.SEARCH, token, callback);
+    }
+
+    public PageCache getPageCache() {
+        return pageCache;
     }
 
     // ==================== HELPER METHODS ====================
@@ -506,43 +616,36 @@ public class WebViewScraperManager {
         }
     }
 
+    private com.omarflex5.data.network.ServerCookieStore getCookieStore(ServerEntity server) {
+        return sessions.session(server).getCookies();
+    }
+
     private Map<String, String> getSavedCookies(ServerEntity server) {
-        if (server.getCfCookiesJson() != null && !server.getCfCookiesJson().isEmpty()) {
-            try {
-                return gson.fromJson(server.getCfCookiesJson(), new TypeToken<Map<String, String>>() {
-                }.getType());
-            } catch (Exception e) {
-                Log.e(TAG, "Error parsing saved cookies: " + e.getMessage());
-            }
-        }
-        return new HashMap<>();
+        return getCookieStore(server).asMap(server.getBaseUrl(), System.currentTimeMillis());
     }
 
-    private void restoreCookiesToWebView(ServerEntity server, Runnable onComplete) {
-        Map<String, String> cookies = getSavedCookies(server);
+    /**
+     * Restore the stored cookies that apply to url, with their own domain,
+     * path and expiry. Cookies of other hosts are left alone.
+     */
+    private void restoreCookiesToWebView(ServerEntity server, String url, Runnable onComplete) {
+        long now = System.currentTimeMillis();
+        List<com.omarflex5.data.network.ServerCookieStore.StoredCookie> cookies = getCookieStore(server)
+                .forUrl(url, now);
         if (!cookies.isEmpty()) {
             CookieManager cm = CookieManager.getInstance();
 
             // CRITICAL: Clear existing cookies to prevent duplicates (migrating from Native
-            // to DB session)
-            // Note: removeAllCookies is ASYNC. We must wait for callback.
-            cm.removeAllCookies(success -> {
-                Log.d(TAG, "Cleared all cookies (Async success=" + success + "). Now restoring...");
-
-                String url = server.getBaseUrl();
-                for (Map.Entry<String, String> entry : cookies.entrySet()) {
-                    // Construct cookie string: name=value
-                    // CRITICAL: Force Path=/ to ensure cookie is valid for entire site.
-                    String cookieValue = entry.getKey() + "=" + entry.getValue() + "; Path=/";
-
-                    // CRITICAL: Restore Attributes for sensitive cookies
-                    if (entry.getKey().equals("cf_clearance") || entry.getKey().equals("__cf_bm")) {
-                        cookieValue += "; HttpOnly; Secure";
-                        // Removed SameSite=None
-                    }
-
-                    cm.setCookie(url, cookieValue);
-                    Log.d(TAG, "Restoring Cookie: " + cookieValue + " for URL: " + url);
+            // to DB session). Only the target host is cleared so parallel leases for
+            // other servers keep their sessions.
+            WebViewPool.clearCookiesFor(url, () -> {
+                Log.d(TAG, "Cleared cookies for " + server.getName() + ". Now restoring...");
+
+                for (com.omarflex5.data.network.ServerCookieStore.StoredCookie cookie : cookies) {
+                    String cookieValue = com.omarflex5.data.network.ServerCookieStore.toSetCookie(cookie, now);
+                    String origin = com.omarflex5.data.network.ServerCookieStore.originOf(cookie);
+                    cm.setCookie(origin, cookieValue);
+                    Log.d(TAG, "Restoring Cookie: " + cookieValue + " for URL: " + origin);
                 }
                 cm.flush();
                 Log.d(TAG, "<<< RESTORED " + cookies.size() + " cookies to WebView for " + url);
@@ -588,7 +691,7 @@ public class WebViewScraperManager {
             serverRepository.findServerByHost(host, server -> {
                 mainHandler.post(() -> {
                     if (server != null) {
-                        restoreCookiesToWebView(server, onComplete);
+                        restoreCookiesToWebView(server, url, onComplete);
                     } else {
                         // Fallback: Check if we have any server that *contains* this host?
                         // Or just log warning.
@@ -606,122 +709,470 @@ public class WebViewScraperManager {
 
     // ==================== HYBRID REQUEST LOGIC ====================
 
-    private final okhttp3.OkHttpClient okHttpClient = new okhttp3.OkHttpClient.Builder()
-            .connectTimeout(15, TimeUnit.SECONDS)
-            .readTimeout(20, TimeUnit.SECONDS)
-            .followRedirects(true)
-            .followSslRedirects(true)
-            .build();
+    private final com.omarflex5.data.network.HttpEngine httpEngine = com.omarflex5.data.network.HttpEngine
+            .getInstance();
+
+    // Engine lanes with the server sessions as cookie jar, built once per lane
+    private final Map<com.omarflex5.data.network.HttpEngine.Priority, okhttp3.OkHttpClient> scraperClients =
+            new java.util.concurrent.ConcurrentHashMap<>();
+
+    private okhttp3.OkHttpClient scraperClient(com.omarflex5.data.network.HttpEngine.Priority priority) {
+        return scraperClients.computeIfAbsent(priority,
+                lane -> httpEngine.newBuilder(lane).cookieJar(sessions).build());
+    }
+
+    // In-flight direct/CF fetches keyed by server + resolved URL + POST body
+    private final Map<String, Flight> inFlight = new HashMap<>();
 
     /**
      * Try direct request first. If CF detected, fallback to WebView.
+     * Runs on the shared HTTP engine's user lane.
+     */
+    public void loadHybrid(ServerEntity server, String url, String postData, boolean allowWebViewFallback,
+            Activity activity,
+            ScraperCallback callback) {
+        loadHybrid(server, url, postData, allowWebViewFallback, activity,
+                com.omarflex5.data.network.HttpEngine.Priority.USER, callback);
+    }
+
+    public void loadHybrid(ServerEntity server, String url, String postData, boolean allowWebViewFallback,
+            Activity activity, com.omarflex5.data.network.HttpEngine.Priority priority,
+            ScraperCallback callback) {
+        loadHybrid(server, url, postData, allowWebViewFallback, activity, priority, PageCache.PageType.DETAIL,
+                callback);
+    }
+
+    /**
+     * Serve from the page cache when possible, otherwise try direct request on
+     * the given priority lane and fallback to WebView if CF detected.
+     *
+     * Flow:
+     * 1. Fresh cache entry -> returned without network
+     * 2. Stale entry -> returned, then revalidated (ETag/Last-Modified) on the
+     * background lane
+     * 3. Miss -> coalesced fetch; a stale entry is used if the fetch fails
      */
+    public void loadHybrid(ServerEntity server, String url, String postData, boolean allowWebViewFallback,
+            Activity activity, com.omarflex5.data.network.HttpEngine.Priority priority,
+            PageCache.PageType pageType, ScraperCallback callback) {
+        loadHybrid(server, url, postData, allowWebViewFallback, activity, priority, pageType, null, callback);
+    }
+
     /**
-     * Try direct request first. If CF detected, fallback to WebView.
+     * Full form. A cancelled token detaches this caller; the underlying fetch
+     * (OkHttp call or WebView load) is aborted once no caller is left.
      */
     public void loadHybrid(ServerEntity server, String url, String postData, boolean allowWebViewFallback,
-            Activity activity,
+            Activity activity, com.omarflex5.data.network.HttpEngine.Priority priority,
+            PageCache.PageType pageType, com.omarflex5.data.network.CancellationToken token,
             ScraperCallback callback) {
 
-        new Thread(() -> {
-            try {
-                // 1. Resolve URL
-                String resolvedUrl = com.omarflex5.util.UrlHelper.restore(server.getBaseUrl(), url);
+        // Search pages only need the parser's regions if the WebView has to load them
+        String[] regions = pageType == PageCache.PageType.SEARCH ? ParserFactory.getSearchRegions(server.getName())
+                : null;
 
-                // 2. Prepare Direct Request
-                String ua = com.omarflex5.util.WebConfig.getUserAgent(context);
-                Log.d(TAG, "OkHttp User-Agent: " + ua + " | Targeting: " + resolvedUrl);
+        // AJAX/POST answers depend on the form and session state: never cached
+        if (postData != null) {
+            loadCoalesced(server, url, postData, allowWebViewFallback, activity, priority, null, null, regions,
+                    token, callback);
+            return;
+        }
 
-                okhttp3.Request.Builder builder = new okhttp3.Request.Builder()
-                        .url(resolvedUrl)
-                        .header("User-Agent", ua)
-                        .header("Accept-Language", "en-US,en;q=0.9,ar;q=0.8");
+        String cacheKey = PageCache.key(server.getId(), url, null);
+        pageCache.get(cacheKey, cached -> {
+            if (token != null && token.isCancelled()) {
+                callback.onError(ERROR_CANCELLED);
+                return;
+            }
 
-                // AJAX Headers for POST
-                if (postData != null) {
-                    builder.header("X-Requested-With", "XMLHttpRequest");
-                    // Use base URL or series URL as referer if possible
-                    String referer = server.getBaseUrl();
-                    if (url.contains("season__episodes")) {
-                        // For ArabSeed, the referer helps bypass "unauthorized"
-                        builder.header("Referer", server.getBaseUrl());
-                    }
+            if (cached != null && cached.isFresh(pageType)) {
+                Log.d(TAG, "Page cache hit: " + url);
+                callback.onSuccess(cached.body, getSavedCookies(server), Origin.CACHE);
+                return;
+            }
+
+            if (cached != null && cached.isServableStale()) {
+                Log.d(TAG, "Page cache stale hit, revalidating: " + url);
+                callback.onSuccess(cached.body, getSavedCookies(server), Origin.CACHE);
+                loadCoalesced(server, url, postData, false, null,
+                        com.omarflex5.data.network.HttpEngine.Priority.BACKGROUND, cacheKey, cached, regions, null,
+                        new ScraperCallback() {
+                            @Override
+                            public void onSuccess(String html, Map<String, String> cookies) {
+                                Log.d(TAG, "Revalidated: " + url);
+                            }
+
+                            @Override
+                            public void onError(String message) {
+                                Log.d(TAG, "Revalidation failed (" + message + "): " + url);
+                            }
+                        });
+                return;
+            }
+
+            loadCoalesced(server, url, postData, allowWebViewFallback, activity, priority, cacheKey, cached,
+                    regions, token, new ScraperCallback() {
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies) {
+                            onSuccess(html, cookies, Origin.NETWORK);
+                        }
+
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies, Origin origin) {
+                            callback.onSuccess(html, cookies, origin);
+                        }
 
-                    okhttp3.RequestBody body = okhttp3.RequestBody.create(
-                            postData,
-                            okhttp3.MediaType.parse("application/x-www-form-urlencoded; charset=UTF-8"));
-                    builder.post(body);
-                    Log.d(TAG, "Preparing OkHttp POST request with body: " + postData);
+                        @Override
+                        public void onError(String message) {
+                            if (cached != null && !ERROR_CANCELLED.equals(message)) {
+                                Log.d(TAG, "Fetch failed (" + message + "), serving expired cache: " + url);
+                                callback.onSuccess(cached.body, getSavedCookies(server), Origin.CACHE);
+                            } else {
+                                callback.onError(message);
+                            }
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Identical concurrent requests (same server, resolved URL and POST body)
+     * are coalesced into one upstream fetch; every caller gets the same result.
+     *
+     * Callers may differ in WebView fallback. If the direct request fails while
+     * a fallback caller is waiting, the callers without fallback get the error
+     * right away and the fetch goes on in the WebView for the others. A caller
+     * without fallback that joins after that point gets the error too.
+     */
+    private void loadCoalesced(ServerEntity server, String url, String postData, boolean allowWebViewFallback,
+            Activity activity, com.omarflex5.data.network.HttpEngine.Priority priority,
+            String cacheKey, PageCache.Entry cached, String[] regions,
+            com.omarflex5.data.network.CancellationToken token, ScraperCallback callback) {
+
+        String flightKey = server.getId() + "|"
+                + com.omarflex5.util.UrlHelper.restore(server.getBaseUrl(), url) + "|"
+                + (postData != null ? postData : "") + "|" + (regions != null);
+
+        Flight flight;
+        boolean joined;
+        String directError = null;
+        synchronized (inFlight) {
+            flight = inFlight.get(flightKey);
+            joined = flight != null;
+            if (joined && flight.directError != null && !allowWebViewFallback) {
+                // Already past the direct attempt, now waiting on the WebView
+                directError = flight.directError;
+            } else {
+                if (!joined) {
+                    flight = new Flight();
+                    inFlight.put(flightKey, flight);
                 }
+                flight.waiters.add(new Waiter(callback, allowWebViewFallback, activity));
+                if (joined) {
+                    Log.d(TAG, "Joining in-flight request (" + flight.waiters.size() + " waiters): " + url);
+                }
+            }
+        }
+        if (directError != null) {
+            callback.onError(directError);
+            return;
+        }
 
-                // Attach cookies if available
-                Map<String, String> cookies = getSavedCookies(server);
-                if (!cookies.isEmpty()) {
-                    StringBuilder cookieHeader = new StringBuilder();
-                    for (Map.Entry<String, String> entry : cookies.entrySet()) {
-                        if (cookieHeader.length() > 0)
-                            cookieHeader.append("; ");
-                        cookieHeader.append(entry.getKey()).append("=").append(entry.getValue());
-                    }
-                    builder.header("Cookie", cookieHeader.toString());
+        final Flight current = flight;
+        if (!joined) {
+            fetchHybrid(server, url, postData, current, priority, cacheKey, cached,
+                    regions, new ScraperCallback() {
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies) {
+                            onSuccess(html, cookies, Origin.NETWORK);
+                        }
+
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies, Origin origin) {
+                            for (ScraperCallback waiter : completeFlight(flightKey, current)) {
+                                waiter.onSuccess(html, cookies, origin);
+                            }
+                        }
+
+                        @Override
+                        public void onError(String message) {
+                            for (ScraperCallback waiter : completeFlight(flightKey, current)) {
+                                waiter.onError(message);
+                            }
+                        }
+                    });
+        }
+
+        if (token != null) {
+            token.onCancel(() -> leaveFlight(flightKey, current, callback));
+        }
+    }
+
+    /**
+     * Detach a cancelled caller. The last one out aborts the fetch itself.
+     */
+    private void leaveFlight(String flightKey, Flight flight, ScraperCallback callback) {
+        boolean abort;
+        synchronized (inFlight) {
+            if (!flight.waiters.removeIf(waiter -> waiter.callback == callback))
+                return; // Already completed
+            abort = flight.waiters.isEmpty();
+            if (abort) {
+                inFlight.remove(flightKey, flight);
+            }
+        }
+        if (abort) {
+            Log.d(TAG, "All callers cancelled, aborting fetch: " + flightKey);
+            flight.fetchToken.cancel();
+        }
+        callback.onError(ERROR_CANCELLED);
+    }
+
+    private List<ScraperCallback> completeFlight(String flightKey, Flight flight) {
+        synchronized (inFlight) {
+            inFlight.remove(flightKey, flight);
+            List<ScraperCallback> waiters = new ArrayList<>();
+            for (Waiter waiter : flight.waiters) {
+                waiters.add(waiter.callback);
+            }
+            flight.waiters.clear();
+            return waiters;
+        }
+    }
+
+    /**
+     * The direct request of a flight failed with error. If any waiter allows
+     * WebView fallback, the others get the error now and true is returned: the
+     * fetch goes on in the WebView (with flight.webViewActivity). Otherwise
+     * nothing changes and the caller reports the error to everyone.
+     */
+    private boolean escalateFlight(Flight flight, String error) {
+        List<ScraperCallback> strict = new ArrayList<>();
+        synchronized (inFlight) {
+            Waiter escalating = null;
+            for (Waiter waiter : flight.waiters) {
+                if (waiter.allowWebViewFallback) {
+                    escalating = waiter;
+                    break;
+                }
+            }
+            if (escalating == null)
+                return false;
+
+            for (java.util.Iterator<Waiter> it = flight.waiters.iterator(); it.hasNext();) {
+                Waiter waiter = it.next();
+                if (!waiter.allowWebViewFallback) {
+                    strict.add(waiter.callback);
+                    it.remove();
                 }
+            }
+            flight.directError = error;
+            flight.webViewActivity = escalating.activity;
+        }
+        for (ScraperCallback callback : strict) {
+            callback.onError(error);
+        }
+        return true;
+    }
 
-                // Attach saved headers if available
-                Map<String, String> savedHeaders = serverRepository.getSavedHeaders(server);
-                if (!savedHeaders.isEmpty()) {
-                    for (Map.Entry<String, String> entry : savedHeaders.entrySet()) {
-                        builder.header(entry.getKey(), entry.getValue());
-                        Log.d(TAG, "Attached saved header: " + entry.getKey());
-                    }
+    private static class Waiter {
+        final ScraperCallback callback;
+        final boolean allowWebViewFallback;
+        final Activity activity;
+
+        Waiter(ScraperCallback callback, boolean allowWebViewFallback, Activity activity) {
+            this.callback = callback;
+            this.allowWebViewFallback = allowWebViewFallback;
+            this.activity = activity;
+        }
+    }
+
+    // Guarded by inFlight, except fetchToken
+    private static class Flight {
+        final List<Waiter> waiters = new ArrayList<>();
+        final com.omarflex5.data.network.CancellationToken fetchToken = new com.omarflex5.data.network.CancellationToken();
+        // Set once the direct request failed and the fetch went on in the WebView
+        String directError;
+        Activity webViewActivity;
+    }
+
+    private void fetchHybrid(ServerEntity server, String url, String postData, Flight flight,
+            com.omarflex5.data.network.HttpEngine.Priority priority,
+            String cacheKey, PageCache.Entry cached, String[] regions, ScraperCallback callback) {
+        final com.omarflex5.data.network.CancellationToken token = flight.fetchToken;
+
+        // WebView results have no validators but are still worth caching, as
+        // long as the page really resolved: a timeout page or a challenge that
+        // slipped through would otherwise be served for days
+        ScraperCallback webViewCallback = new ScraperCallback() {
+            @Override
+            public void onSuccess(String html, Map<String, String> cookies) {
+                onSuccess(html, cookies, Origin.NETWORK);
+            }
+
+            @Override
+            public void onSuccess(String html, Map<String, String> cookies, Origin origin) {
+                if (cacheKey != null && origin == Origin.NETWORK
+                        && !com.omarflex5.data.scraper.util.CfDetector.isCloudflareContent(html)) {
+                    pageCache.put(cacheKey, html, null, null);
+                }
+                callback.onSuccess(html, cookies, origin);
+            }
+
+            @Override
+            public void onError(String message) {
+                callback.onError(message);
+            }
+        };
+
+        final String resolvedUrl;
+        final Map<String, String> cookies;
+        final okhttp3.Request request;
+        try {
+            // 1. Resolve URL
+            resolvedUrl = com.omarflex5.util.UrlHelper.restore(server.getBaseUrl(), url);
+
+            // 2. Prepare Direct Request
+            String ua = com.omarflex5.util.WebConfig.getUserAgent(context);
+            Log.d(TAG, "OkHttp User-Agent: " + ua + " | Targeting: " + resolvedUrl);
+
+            okhttp3.Request.Builder builder = new okhttp3.Request.Builder()
+                    .url(resolvedUrl)
+                    .header("User-Agent", ua)
+                    .header("Accept-Language", "en-US,en;q=0.9,ar;q=0.8");
+
+            // AJAX Headers for POST
+            if (postData != null) {
+                builder.header("X-Requested-With", "XMLHttpRequest");
+                if (url.contains("season__episodes")) {
+                    // For ArabSeed, the referer helps bypass "unauthorized"
+                    builder.header("Referer", server.getBaseUrl());
                 }
 
-                // 2. Execute
-                okhttp3.Response response = okHttpClient.newCall(builder.build()).execute();
-                int code = response.code();
-                String body = response.body() != null ? response.body().string() : "";
-                response.close();
+                okhttp3.RequestBody body = okhttp3.RequestBody.create(
+                        postData,
+                        okhttp3.MediaType.parse("application/x-www-form-urlencoded; charset=UTF-8"));
+                builder.post(body);
+                Log.d(TAG, "Preparing OkHttp POST request with body: " + postData);
+            }
 
-                // 3. Check for Cloudflare using utility
-                if (com.omarflex5.data.scraper.util.CfDetector.isCloudflareResponse(code, body)) {
+            // Stored cookies are attached by the scraper client's cookie jar
+            cookies = getCookieStore(server).asMap(resolvedUrl, System.currentTimeMillis());
 
-                    if (allowWebViewFallback) {
-                        // Failover to WebView
-                        Log.d(TAG, "Direct request hit Cloudflare (" + code + "). Falling back to WebView.");
-                        mainHandler.post(() -> loadWithCfBypass(server, url, postData, activity, callback));
-                    } else {
-                        // Strict Fast Mode: Fail immediately so caller can queue it
-                        Log.d(TAG, "Direct request hit Cloudflare (" + code + "). Reporting CLOUDFLARE_DETECTED.");
-                        callback.onError("CLOUDFLARE_DETECTED");
+            // Attach saved headers if available
+            Map<String, String> savedHeaders = sessions.session(server).getHeaders();
+            if (!savedHeaders.isEmpty()) {
+                for (Map.Entry<String, String> entry : savedHeaders.entrySet()) {
+                    builder.header(entry.getKey(), entry.getValue());
+                    Log.d(TAG, "Attached saved header: " + entry.getKey());
+                }
+            }
+
+            // Conditional request so an unchanged page costs a 304 instead of a full body
+            if (cached != null) {
+                if (cached.etag != null)
+                    builder.header("If-None-Match", cached.etag);
+                if (cached.lastModified != null)
+                    builder.header("If-Modified-Since", cached.lastModified);
+            }
+            request = builder.build();
+        } catch (Exception e) {
+            Log.e(TAG, "Direct request failed: " + e.getMessage());
+            onDirectRequestFailed(server, url, postData, flight, regions, webViewCallback);
+            return;
+        }
+
+        // 3. Execute on the shared engine (bounded per host, warm connections)
+        okhttp3.Call directCall = scraperClient(priority).newCall(request);
+        token.onCancel(directCall::cancel);
+        long sentAt = android.os.SystemClock.elapsedRealtime();
+        directCall.enqueue(new okhttp3.Callback() {
+            @Override
+            public void onFailure(okhttp3.Call call, java.io.IOException e) {
+                if (token.isCancelled()) {
+                    callback.onError(ERROR_CANCELLED);
+                    return;
+                }
+                Log.e(TAG, "Direct request failed: " + e.getMessage());
+                onDirectRequestFailed(server, url, postData, flight, regions, webViewCallback);
+            }
+
+            @Override
+            public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+                try {
+                    long headersAt = android.os.SystemClock.elapsedRealtime();
+                    int code = response.code();
+                    String body = response.body() != null ? response.body().string() : "";
+                    sessions.recordLatency(server, LatencyStats.Phase.TTFB, headersAt - sentAt);
+                    sessions.recordLatency(server, LatencyStats.Phase.BODY,
+                            android.os.SystemClock.elapsedRealtime() - headersAt);
+                    String finalUrl = response.request().url().toString();
+                    String etag = response.header("ETag");
+                    String lastModified = response.header("Last-Modified");
+                    response.close();
+
+                    if (code == 304 && cached != null) {
+                        Log.d(TAG, "Not modified, reusing cached page: " + url);
+                        pageCache.touch(cached, etag, lastModified);
+                        callback.onSuccess(cached.body, cookies, Origin.NETWORK);
+                        return;
                     }
 
-                } else if (code >= 200 && code < 400 && !body.isEmpty()) {
-                    // Success
-                    Log.d(TAG, "Direct request success (" + code + ").");
-                    checkAndHandleRedirect(server, response.request().url().toString());
+                    // 4. Check for Cloudflare using utility
+                    if (com.omarflex5.data.scraper.util.CfDetector.isCloudflareResponse(code, body)) {
+                        updateCookiesFromResponse(server, true);
+
+                        if (escalateFlight(flight, "CLOUDFLARE_DETECTED")) {
+                            // Failover to WebView
+                            Log.d(TAG, "Direct request hit Cloudflare (" + code + "). Falling back to WebView.");
+                            mainHandler.post(() -> loadWithCfBypass(server, url, postData, flight.webViewActivity,
+                                    token, regions, webViewCallback));
+                        } else {
+                            // Strict Fast Mode: Fail immediately so caller can queue it
+                            Log.d(TAG, "Direct request hit Cloudflare (" + code + "). Reporting CLOUDFLARE_DETECTED.");
+                            callback.onError("CLOUDFLARE_DETECTED");
+                        }
+
+                    } else if (code >= 200 && code < 400 && !body.isEmpty()) {
+                        // Success
+                        Log.d(TAG, "Direct request success (" + code + "). " + httpEngine.getStats());
+                        checkAndHandleRedirect(server, finalUrl);
+                        updateCookiesFromResponse(server, false);
 
-                    // Save Referer header for future requests
-                    Map<String, String> headersToSave = new HashMap<>();
-                    headersToSave.put("Referer", resolvedUrl);
-                    serverRepository.saveHeaders(server.getId(), headersToSave);
+                        // Save Referer header for future requests (written only when it changes)
+                        sessions.putHeader(server, "Referer", resolvedUrl);
 
-                    callback.onSuccess(body, cookies);
-                } else {
-                    if (!body.isEmpty()) {
-                        callback.onSuccess(body, cookies);
+                        if (code < 300 && cacheKey != null) {
+                            pageCache.put(cacheKey, body, etag, lastModified);
+                        }
+                        callback.onSuccess(body, cookies, Origin.NETWORK);
                     } else {
-                        callback.onError("HTTP Error: " + code);
+                        if (!body.isEmpty()) {
+                            callback.onSuccess(body, cookies, Origin.NETWORK);
+                        } else {
+                            callback.onError("HTTP Error: " + code);
+                        }
                     }
-                }
-
-            } catch (Exception e) {
-                Log.e(TAG, "Direct request failed: " + e.getMessage());
-                if (allowWebViewFallback) {
-                    mainHandler.post(() -> loadWithCfBypass(server, url, postData, activity, callback));
-                } else {
-                    callback.onError("CONNECTION_ERROR");
+                } catch (Exception e) {
+                    response.close();
+                    Log.e(TAG, "Direct request failed: " + e.getMessage());
+                    onDirectRequestFailed(server, url, postData, flight, regions, webViewCallback);
                 }
             }
-        }).start();
+        });
+    }
+
+    private void onDirectRequestFailed(ServerEntity server, String url, String postData, Flight flight,
+            String[] regions, ScraperCallback callback) {
+        com.omarflex5.data.network.CancellationToken token = flight.fetchToken;
+        if (token.isCancelled()) {
+            callback.onError(ERROR_CANCELLED);
+        } else if (escalateFlight(flight, "CONNECTION_ERROR")) {
+            mainHandler.post(() -> loadWithCfBypass(server, url, postData, flight.webViewActivity, token, regions,
+                    callback));
+        } else {
+            callback.onError("CONNECTION_ERROR");
+        }
     }
 
     public void loadHybrid(ServerEntity server, String url, boolean allowWebViewFallback, Activity activity,
@@ -735,13 +1186,8 @@ public class WebViewScraperManager {
      * Load URL and sniff for video links (m3u8/mp4).
      */
     public void sniffVideo(String url, VideoSniffCallback callback) {
-        if (!isWebViewReady) {
-            initialize();
-            mainHandler.postDelayed(() -> sniffVideo(url, callback), 500);
-            return;
-        }
-
-        mainHandler.post(() -> {
+        webViewPool.acquire(null, lease -> {
+            WebView webView = lease.getWebView();
             Log.d(TAG, "Sniffing video from: " + url);
             AtomicBoolean found = new AtomicBoolean(false);
 
@@ -756,6 +1202,7 @@ public class WebViewScraperManager {
                         Log.d(TAG, "Video found: " + resourceUrl);
                         if (!found.getAndSet(true)) {
                             view.stopLoading();
+                            lease.release();
                             callback.onVideoFound(resourceUrl, new HashMap<>()); // Cookies?
                         }
                     }
@@ -777,6 +1224,7 @@ public class WebViewScraperManager {
                                         if (videoUrl != null
                                                 && (videoUrl.contains(".m3u8") || videoUrl.contains(".mp4"))) {
                                             if (!found.getAndSet(true)) {
+                                                lease.release();
                                                 callback.onVideoFound(videoUrl, new HashMap<>());
                                             }
                                         }
@@ -788,7 +1236,8 @@ public class WebViewScraperManager {
 
             // Timeout
             mainHandler.postDelayed(() -> {
-                if (!found.get()) {
+                if (!found.getAndSet(true)) {
+                    lease.release();
                     callback.onError("Sniffing timed out");
                 }
             }, 30000);
@@ -803,9 +1252,30 @@ public class WebViewScraperManager {
         void onError(String message);
     }
 
+    /**
+     * Where a successful page came from.
+     */
+    public enum Origin {
+        /** The server answered: direct request, 304 revalidation or solved WebView */
+        NETWORK,
+        /** Page cache, without contacting the server */
+        CACHE,
+        /** WebView page taken as is when the CF wait timed out, usually the challenge */
+        WEBVIEW_TIMEOUT
+    }
+
     public interface ScraperCallback {
         void onSuccess(String html, Map<String, String> cookies);
 
         void onError(String message);
+
+        /**
+         * Success with its origin. Callers that need to know whether the server
+         * was actually reached override this; by default it forwards to
+         * onSuccess(html, cookies).
+         */
+        default void onSuccess(String html, Map<String, String> cookies, Origin origin) {
+            onSuccess(html, cookies);
+        }
     }
 }
@@ -1,13 +1,42 @@
 package com.omarflex5.data.scraper.client;
 
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.util.Log;
 
+import com.omarflex5.data.scraper.policy.ResourcePolicy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client for the hidden scraper WebView (CF bypass and HTML fetches).
+ * Skips images, media, fonts and ad/analytics hosts via ResourcePolicy;
+ * Cloudflare challenge resources always load.
+ */
 public class ScraperWebViewClient extends CoreWebViewClient {
 
     private static final String TAG = "ScraperWebViewClient";
 
+    // shouldInterceptRequest runs on a WebView worker thread
+    private final AtomicInteger blocked = new AtomicInteger();
+
     public ScraperWebViewClient(WebViewController controller) {
         super(controller);
     }
+
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+        if (ResourcePolicy.shouldBlock(request)) {
+            blocked.incrementAndGet();
+            return ResourcePolicy.emptyResponse();
+        }
+        return super.shouldInterceptRequest(view, request);
+    }
+
+    @Override
+    public void onPageFinished(WebView view, String url) {
+        Log.d(TAG, "Blocked " + blocked.getAndSet(0) + " subresources on " + truncateUrl(url));
+        super.onPageFinished(view, url);
+    }
 }
@@ -5,7 +5,6 @@ import android.util.Log;
 import com.omarflex5.data.local.entity.MediaType;
 import com.omarflex5.data.scraper.BaseHtmlParser;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -19,6 +18,9 @@ public class AkwamParser extends BaseHtmlParser {
 
     private static final String TAG = "AkwamParser";
 
+    /** Everything search parsing reads, for scoped WebView extraction */
+    public static final String[] SEARCH_REGIONS = { ".entry-box" };
+
     public AkwamParser(String html, String pageUrl) {
         super(html, pageUrl);
     }
@@ -32,7 +34,7 @@ public class AkwamParser extends BaseHtmlParser {
         List<ParsedItem> items = new ArrayList<>();
         try {
             Log.d(TAG, "Parsing Search Results. HTML Length: " + html.length());
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("entry-box");
             // From AkwamServer.java: elements defined by class "entry-box"
             Elements links = doc.getElementsByClass("entry-box");
             Log.d(TAG, "Found entry-box elements: " + links.size());
@@ -93,7 +95,7 @@ public class AkwamParser extends BaseHtmlParser {
     public ParsedItem parseDetailPage() {
         ParsedItem result = new ParsedItem();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = document();
             String url = getPageUrl();
             result.setPageUrl(url); // CRITICAL: Preserve URL for DB Sync
 
@@ -241,7 +243,7 @@ public class AkwamParser extends BaseHtmlParser {
         if (nextSteps.isEmpty()) {
             // 2. Try Regex on all links if class not found
             Elements links = doc.getElementsByTag("a");
-            Pattern p = Pattern.compile("(?:a[kwamoc])?.*/[download]{1,6}"); // simplistic version of ref regex
+            Pattern p = pattern("(?:a[kwamoc])?.*/[download]{1,6}"); // simplistic version of ref regex
             for (Element link : links) {
                 String href = link.attr("href");
                 Matcher m = p.matcher(href);
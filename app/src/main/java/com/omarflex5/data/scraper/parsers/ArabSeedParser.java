@@ -28,7 +28,7 @@ public class ArabSeedParser extends BaseHtmlParser {
     public List<ParsedItem> parseSearchResults() {
         List<ParsedItem> results = new ArrayList<>();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = document();
             String currentUrl = getPageUrl();
             boolean isSeriesSearch = currentUrl != null && currentUrl.contains("type=series");
             boolean isMovieSearch = currentUrl != null && currentUrl.contains("type=movies");
@@ -217,7 +217,7 @@ public class ArabSeedParser extends BaseHtmlParser {
     public ParsedItem parseDetailPage() {
         ParsedItem result = new ParsedItem();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = document();
             result.setPageUrl(getPageUrl());
 
             Log.d("FLOW", "ArabSeedParser.parseDetailPage TRACE:");
@@ -749,7 +749,7 @@ public class ArabSeedParser extends BaseHtmlParser {
             return input.attr("value");
 
         // Try scripts (regex)
-        String htmlStr = doc.html();
+        String htmlStr = html;
         // Standard csrf_token or nonce patterns
         String[] patterns = {
                 "['\"]?csrf__token['\"]?\\s*[:=]\\s*['\"]([^'\"]+)['\"]",
@@ -760,8 +760,7 @@ public class ArabSeedParser extends BaseHtmlParser {
         };
 
         for (String pattern : patterns) {
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern,
-                    java.util.regex.Pattern.CASE_INSENSITIVE);
+            java.util.regex.Pattern p = pattern(pattern, java.util.regex.Pattern.CASE_INSENSITIVE);
             java.util.regex.Matcher m = p.matcher(htmlStr);
             if (m.find()) {
                 String token = m.group(1);
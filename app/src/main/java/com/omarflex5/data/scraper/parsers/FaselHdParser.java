@@ -5,7 +5,6 @@ import android.util.Log;
 import com.omarflex5.data.local.entity.MediaType;
 import com.omarflex5.data.scraper.BaseHtmlParser;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -20,6 +19,9 @@ public class FaselHdParser extends BaseHtmlParser {
 
     private static final String TAG = "FaselHdParser";
 
+    /** Everything search parsing reads, for scoped WebView extraction */
+    public static final String[] SEARCH_REGIONS = { "div.postDiv", "ul.pagination" };
+
     public FaselHdParser(String html) {
         super(html);
     }
@@ -28,7 +30,7 @@ public class FaselHdParser extends BaseHtmlParser {
     public List<ParsedItem> parseSearchResults() {
         List<ParsedItem> items = new ArrayList<>();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("postDiv");
             Elements posts = doc.select("div.postDiv");
 
             for (Element post : posts) {
@@ -102,7 +104,7 @@ public class FaselHdParser extends BaseHtmlParser {
         String nextPageUrl = null;
 
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("postDiv");
             // FaselHD pagination: find the link containing "›" (next page symbol)
             Element nextLink = doc.selectFirst("ul.pagination a.page-link:contains(›)");
 
@@ -137,7 +139,7 @@ public class FaselHdParser extends BaseHtmlParser {
     public ParsedItem parseDetailPage() {
         ParsedItem result = new ParsedItem();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = document();
             String url = getPageUrl();
             result.setPageUrl(url); // CRITICAL: Preserve URL for DB Sync
 
@@ -280,7 +282,7 @@ public class FaselHdParser extends BaseHtmlParser {
                 String sLink = season.attr("onclick");
                 String url = "";
                 if (sLink != null) {
-                    Pattern p = Pattern.compile("href\\s*=\\s*['\"]([^'\"]+)['\"]");
+                    Pattern p = pattern("href\\s*=\\s*['\"]([^'\"]+)['\"]");
                     Matcher m = p.matcher(sLink);
                     if (m.find())
                         url = m.group(1);
@@ -353,7 +355,7 @@ public class FaselHdParser extends BaseHtmlParser {
         if (text == null)
             return null;
         // Matches "15", "Episode 15", "الحلقة 15"
-        Pattern p = Pattern.compile("(\\d+)");
+        Pattern p = pattern("(\\d+)");
         Matcher m = p.matcher(text);
         if (m.find()) {
             try {
@@ -401,7 +403,7 @@ public class FaselHdParser extends BaseHtmlParser {
         Elements qualityButtons = doc.select("div.quality_change button");
         if (!qualityButtons.isEmpty())
             isPlayer = true;
-        if (doc.html().contains("videoSrc"))
+        if (html.contains("videoSrc"))
             isPlayer = true;
 
         if (isPlayer) {
@@ -433,7 +435,7 @@ public class FaselHdParser extends BaseHtmlParser {
             for (Element script : scripts) {
                 String data = script.data();
                 if (data.contains("videoSrc")) {
-                    Pattern p = Pattern.compile("videoSrc\\s*=\\s*['\"]([^'\"]+)['\"]");
+                    Pattern p = pattern("videoSrc\\s*=\\s*['\"]([^'\"]+)['\"]");
                     Matcher m = p.matcher(data);
                     if (m.find()) {
                         String url = m.group(1);
@@ -4,7 +4,6 @@ import android.util.Log;
 
 import com.omarflex5.data.local.entity.MediaType;
 import com.omarflex5.data.scraper.BaseHtmlParser;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -16,6 +15,13 @@ public class MyCimaParser extends BaseHtmlParser {
 
     private static final String TAG = "MyCimaParser";
 
+    /** Everything search parsing reads, for scoped WebView extraction */
+    public static final String[] SEARCH_REGIONS = { ".GridItem", ".pagination" };
+
+    /** Outermost classes of every section detail parsing reads */
+    private static final String[] DETAIL_MARKERS = { "SeasonsList", "EpisodesList", "WatchServers",
+            "Title--Content--Single-begin", "Poster--Single-begin", "StoryMovieContent" };
+
     public MyCimaParser(String html) {
         super(html);
     }
@@ -28,7 +34,7 @@ public class MyCimaParser extends BaseHtmlParser {
     public List<ParsedItem> parseSearchResults() {
         List<ParsedItem> items = new ArrayList<>();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("GridItem");
             Elements elements = doc.select(".GridItem");
 
             for (Element element : elements) {
@@ -100,7 +106,7 @@ public class MyCimaParser extends BaseHtmlParser {
         List<ParsedItem> items = parseSearchResults();
         String nextPageUrl = null;
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("GridItem");
             Element nextLink = doc.selectFirst(
                     ".pagination a.next, .pagination ul.page-numbers li a:contains(›), .pagination ul.page-numbers li a[href*='/page/']");
 
@@ -133,7 +139,7 @@ public class MyCimaParser extends BaseHtmlParser {
     public ParsedItem parseDetailPage() {
         ParsedItem result = new ParsedItem();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFromFirst(DETAIL_MARKERS);
             result.setPageUrl(pageUrl);
 
             // Detailed page could be:
@@ -5,7 +5,6 @@ import android.util.Log;
 import com.omarflex5.data.local.entity.MediaType;
 import com.omarflex5.data.scraper.BaseHtmlParser;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -19,6 +18,9 @@ public class OldAkwamParser extends BaseHtmlParser {
 
     private static final String TAG = "OldAkwamParser";
 
+    /** Everything search parsing reads, for scoped WebView extraction */
+    public static final String[] SEARCH_REGIONS = { ".tags_box" };
+
     public OldAkwamParser(String html, String pageUrl) {
         super(html, pageUrl);
     }
@@ -27,7 +29,7 @@ public class OldAkwamParser extends BaseHtmlParser {
     public List<ParsedItem> parseSearchResults() {
         List<ParsedItem> results = new ArrayList<>();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = documentFrom("tags_box");
             // From OldAkwamServer.java: elements defined by class "tags_box"
             Elements boxes = doc.getElementsByClass("tags_box");
 
@@ -90,7 +92,7 @@ public class OldAkwamParser extends BaseHtmlParser {
     public ParsedItem parseDetailPage() {
         ParsedItem result = new ParsedItem();
         try {
-            Document doc = Jsoup.parse(html);
+            Document doc = document();
 
             // Basic Info
             String rawTitle = doc.title();
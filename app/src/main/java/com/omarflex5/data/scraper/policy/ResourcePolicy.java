@@ -0,0 +1,107 @@
+package com.omarflex5.data.scraper.policy;
+
+import android.net.Uri;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Subresource policy for the headless scraper WebView.
+ *
+ * The scraper only needs the page HTML and the cookies it leaves behind, so
+ * images, media, fonts and ad/analytics hosts are answered with an empty
+ * response instead of being downloaded.
+ *
+ * Never blocked:
+ * 1. Main-frame (document) loads
+ * 2. Cloudflare challenge resources: challenges.cloudflare.com and any
+ * /cdn-cgi/ path (challenge scripts, Turnstile, trace images)
+ * 3. Scripts, stylesheets and XHR on other hosts (pages may build their
+ * listing with JS)
+ */
+public class ResourcePolicy {
+
+    private static final String[] BLOCKED_EXTENSIONS = {
+            // Images
+            ".jpg", ".jpeg", ".png", ".gif", ".webp", ".avif", ".svg", ".ico", ".bmp",
+            // Fonts
+            ".woff", ".woff2", ".ttf", ".otf", ".eot",
+            // Media
+            ".mp4", ".m3u8", ".ts", ".webm", ".mkv", ".mp3", ".m4a", ".vtt", ".srt"
+    };
+
+    private static final String[] BLOCKED_HOSTS = {
+            "doubleclick.net", "googlesyndication.com", "googleadservices.com", "googletagmanager.com",
+            "google-analytics.com", "adservice.google.com", "facebook.net", "connect.facebook.net",
+            "hotjar.com", "yandex.ru", "mc.yandex.com", "popads.net", "popcash.net", "propellerads.com",
+            "adsterra.com", "exoclick.com", "juicyads.com", "onclickads.net", "adnxs.com",
+            "taboola.com", "outbrain.com", "mgid.com", "histats.com", "statcounter.com",
+            "cloudflareinsights.com"
+    };
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private ResourcePolicy() {
+    }
+
+    /**
+     * Whether the scraper can skip this request.
+     */
+    public static boolean shouldBlock(WebResourceRequest request) {
+        if (request.isForMainFrame())
+            return false;
+
+        Uri uri = request.getUrl();
+        String host = uri.getHost();
+        String path = uri.getPath();
+        if (host == null)
+            return false;
+        host = host.toLowerCase(Locale.ROOT);
+
+        if (isChallengeResource(host, path))
+            return false;
+        if (isBlockedHost(host))
+            return true;
+
+        if (path != null && hasBlockedExtension(path.toLowerCase(Locale.ROOT)))
+            return true;
+
+        // Extensionless image/font endpoints (resizers, CDNs) still say what they want
+        Map<String, String> headers = request.getRequestHeaders();
+        String accept = headers != null ? headers.get("Accept") : null;
+        return accept != null && (accept.startsWith("image/") || accept.startsWith("video/")
+                || accept.startsWith("audio/") || accept.startsWith("font/"));
+    }
+
+    /**
+     * Empty 200 answer, so the page sees the request finish instead of fail.
+     */
+    public static WebResourceResponse emptyResponse() {
+        return new WebResourceResponse("text/plain", "utf-8", new ByteArrayInputStream(EMPTY));
+    }
+
+    private static boolean isChallengeResource(String host, String path) {
+        if (host.equals("challenges.cloudflare.com"))
+            return true;
+        return path != null && path.startsWith("/cdn-cgi/");
+    }
+
+    private static boolean isBlockedHost(String host) {
+        for (String blocked : BLOCKED_HOSTS) {
+            if (host.equals(blocked) || host.endsWith("." + blocked))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean hasBlockedExtension(String path) {
+        for (String extension : BLOCKED_EXTENSIONS) {
+            if (path.endsWith(extension))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package com.omarflex5.data.scraper.util;
+
+import com.omarflex5.util.ArabicFolding;
+
+/**
+ * Single-pass title cleanup and match-key generation for scraped cards.
+ *
+ * Replaces the replaceAll chains that used to run for every card: one scan
+ * splits the title into words, drops the year "(2023)" and release tags
+ * (مترجم, مدبلج, HD, BluRay), and builds the Arabic-folded match key from
+ * the words that are kept.
+ */
+public final class TitleNormalizer {
+
+    // Whole words removed from titles (compared case-insensitively)
+    private static final String[] NOISE_WORDS = {
+            "مترجم", "مترجمة", "مدبلج", "مدبلجة", "hd", "bluray"
+    };
+
+    public static final class Normalized {
+        /** Display title, words separated by single spaces */
+        public final String title;
+        /** Folded title part of the match key */
+        public final String key;
+
+        Normalized(String title, String key) {
+            this.title = title;
+            this.key = key;
+        }
+    }
+
+    private TitleNormalizer() {
+    }
+
+    public static Normalized normalize(String raw) {
+        if (raw == null)
+            return new Normalized(null, "");
+
+        int length = raw.length();
+        StringBuilder title = new StringBuilder(length);
+        StringBuilder key = new StringBuilder(length);
+        int wordStart = -1;
+        int keyStart = 0;
+
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? raw.charAt(i) : ' ';
+            boolean year = c == '(' && isYearAt(raw, i);
+            boolean separator = year || Character.isWhitespace(c) || c == '\u00A0';
+
+            if (!separator) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                    keyStart = key.length();
+                }
+                appendKeyChar(key, c);
+                continue;
+            }
+
+            if (wordStart >= 0) {
+                if (isNoiseWord(raw, wordStart, i)) {
+                    key.setLength(keyStart);
+                } else {
+                    if (title.length() > 0)
+                        title.append(' ');
+                    title.append(raw, wordStart, i);
+                }
+                wordStart = -1;
+            }
+            if (year) {
+                i += 5; // skip "(dddd)"
+            }
+        }
+        return new Normalized(title.toString(), key.toString());
+    }
+
+    public static String cleanTitle(String title) {
+        return title != null ? normalize(title).title : null;
+    }
+
+    /**
+     * Match key for deduplication. Format: folded_title|year|season|episode
+     */
+    public static String matchKey(String title, Integer year, Integer season, Integer episode) {
+        StringBuilder key = new StringBuilder(normalize(title).key);
+        key.append('|').append(year != null ? year : "");
+        key.append('|').append(season != null ? season : "");
+        key.append('|').append(episode != null ? episode : "");
+        return key.toString();
+    }
+
+    /**
+     * Remove tags and decode the common entities in one pass; numeric
+     * entities are dropped.
+     */
+    public static String stripHtml(String html) {
+        if (html == null)
+            return null;
+        int length = html.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int close = html.indexOf('>', i + 1);
+                if (close > i + 1) {
+                    i = close;
+                    continue;
+                }
+            } else if (c == '&') {
+                int semi = html.indexOf(';', i + 1);
+                if (semi > 0 && semi - i <= 8) {
+                    char decoded = decodeEntity(html, i + 1, semi);
+                    if (decoded != 1) {
+                        if (decoded != 0)
+                            sb.append(decoded);
+                        i = semi;
+                        continue;
+                    }
+                }
+            }
+            sb.append(c);
+        }
+        return sb.toString().trim();
+    }
+
+    // ==================== HELPERS ====================
+
+    // Lowercase, fold Arabic, keep [a-z0-9] and Arabic letters; Arabic-Indic digits become ASCII
+    private static void appendKeyChar(StringBuilder key, char c) {
+        if (c >= 'A' && c <= 'Z') {
+            key.append((char) (c + ('a' - 'A')));
+        } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+            key.append(c);
+        } else if (c >= '٠' && c <= '٩') {
+            key.append((char) ('0' + (c - '٠')));
+        } else if (c >= '۰' && c <= '۹') {
+            key.append((char) ('0' + (c - '۰')));
+        } else if (c >= '؀' && c <= 'ۿ') {
+            char folded = ArabicFolding.foldChar(c);
+            if (Character.isLetter(folded)) {
+                key.append(folded);
+            }
+        }
+    }
+
+    private static boolean isYearAt(String s, int i) {
+        if (i + 5 >= s.length() || s.charAt(i + 5) != ')')
+            return false;
+        for (int j = i + 1; j <= i + 4; j++) {
+            char c = s.charAt(j);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isNoiseWord(String s, int start, int end) {
+        for (String word : NOISE_WORDS) {
+            if (end - start == word.length() && s.regionMatches(true, start, word, 0, word.length()))
+                return true;
+        }
+        return false;
+    }
+
+    // Returns the decoded char, 0 to drop the entity, 1 if it is not handled
+    private static char decodeEntity(String s, int start, int end) {
+        if (s.charAt(start) == '#') {
+            if (end == start + 1)
+                return 1;
+            for (int j = start + 1; j < end; j++) {
+                if (s.charAt(j) < '0' || s.charAt(j) > '9')
+                    return 1;
+            }
+            return 0;
+        }
+        if (s.regionMatches(start, "nbsp", 0, end - start) && end - start == 4)
+            return ' ';
+        if (s.regionMatches(start, "amp", 0, end - start) && end - start == 3)
+            return '&';
+        if (s.regionMatches(start, "lt", 0, end - start) && end - start == 2)
+            return '<';
+        if (s.regionMatches(start, "gt", 0, end - start) && end - start == 2)
+            return '>';
+        return 1;
+    }
+}
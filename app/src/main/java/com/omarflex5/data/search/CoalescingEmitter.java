@@ -0,0 +1,79 @@
+package com.omarflex5.data.search;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * Rate-limits a stream of snapshots to at most one publish per interval.
+ * The latest submitted value wins; intermediate ones are dropped.
+ *
+ * finish() publishes a terminal value immediately and ignores anything
+ * submitted afterwards, so a delayed intermediate snapshot can never
+ * overwrite the final state.
+ */
+public class CoalescingEmitter<T> {
+
+    public interface Sink<T> {
+        void publish(T value);
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final long intervalMs;
+    private final Sink<T> sink;
+    private final Runnable flushTask = this::flush;
+
+    private T pending;
+    private boolean scheduled = false;
+    private boolean closed = false;
+    private long lastPublishAt = 0;
+
+    public CoalescingEmitter(long intervalMs, Sink<T> sink) {
+        this.intervalMs = intervalMs;
+        this.sink = sink;
+    }
+
+    /**
+     * Queue a snapshot. Safe to call from any thread.
+     */
+    public synchronized void submit(T value) {
+        if (closed)
+            return;
+        pending = value;
+        if (scheduled)
+            return;
+        scheduled = true;
+        long delay = Math.max(0, lastPublishAt + intervalMs - SystemClock.uptimeMillis());
+        handler.postDelayed(flushTask, delay);
+    }
+
+    /**
+     * Drop any pending snapshot, publish the terminal value (if not null) and
+     * stop accepting new ones.
+     */
+    public synchronized void finish(T terminal) {
+        if (closed)
+            return;
+        closed = true;
+        pending = null;
+        handler.removeCallbacks(flushTask);
+        if (terminal != null) {
+            sink.publish(terminal);
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private synchronized void flush() {
+        scheduled = false;
+        if (closed || pending == null)
+            return;
+        T value = pending;
+        pending = null;
+        lastPublishAt = SystemClock.uptimeMillis();
+        // Publish under the lock so finish() can never be overtaken
+        sink.publish(value);
+    }
+}
@@ -0,0 +1,119 @@
+package com.omarflex5.data.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental merge of search results by match key.
+ *
+ * addAll() costs O(batch): each result either becomes a new entry or an
+ * alternative source of the entry with the same matchKey (first occurrence
+ * wins, so higher priority servers stay primary). Results without a key are
+ * kept as-is.
+ *
+ * Entries are copy-on-write: a result that has been handed out in a
+ * snapshot is never modified again, it is replaced by a copy the first time
+ * it gains an alternative. snapshot() returns an unmodifiable list that is
+ * reused until the next change.
+ */
+class SearchMergeIndex {
+
+    private final List<SearchResult> entries = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    // Positions whose entry is a private copy not yet published in a snapshot
+    private final Set<Integer> owned = new HashSet<>();
+
+    private List<SearchResult> snapshot = Collections.emptyList();
+    private boolean dirty = false;
+
+    SearchMergeIndex() {
+    }
+
+    /**
+     * Start from an already published list (cached or previous results).
+     * Seeding does not count as a change for snapshotIfChanged().
+     */
+    SearchMergeIndex(List<SearchResult> seed) {
+        addAll(seed);
+        snapshot();
+    }
+
+    synchronized void addAll(List<SearchResult> results) {
+        if (results == null)
+            return;
+        for (SearchResult result : results) {
+            add(result);
+        }
+    }
+
+    /**
+     * Current merged list. Callers must not modify the returned results.
+     */
+    synchronized List<SearchResult> snapshot() {
+        if (dirty) {
+            snapshot = Collections.unmodifiableList(new ArrayList<>(entries));
+            owned.clear();
+            dirty = false;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Like snapshot(), but null when nothing was added since the last one.
+     */
+    synchronized List<SearchResult> snapshotIfChanged() {
+        return dirty ? snapshot() : null;
+    }
+
+    private void add(SearchResult result) {
+        String key = result.matchKey;
+        if (key == null || key.isEmpty()) {
+            // No key - can't dedupe, include as-is
+            entries.add(result);
+            dirty = true;
+            return;
+        }
+
+        Integer position = positions.get(key);
+        if (position == null) {
+            positions.put(key, entries.size());
+            entries.add(result);
+            dirty = true;
+            return;
+        }
+
+        SearchResult existing = entries.get(position);
+        // Same page seen again (e.g. refreshing a cached list) is not an alternative
+        if (hasSource(existing, result.serverId, result.pageUrl))
+            return;
+
+        if (!owned.contains(position)) {
+            existing = existing.copy();
+            entries.set(position, existing);
+            owned.add(position);
+        }
+        if (existing.alternativeSources == null) {
+            existing.alternativeSources = new ArrayList<>();
+        }
+        existing.alternativeSources.add(new SourceInfo(
+                result.serverId, result.serverName, result.serverLabel, result.pageUrl));
+        dirty = true;
+    }
+
+    private static boolean hasSource(SearchResult entry, long serverId, String pageUrl) {
+        if (entry.serverId == serverId && java.util.Objects.equals(entry.pageUrl, pageUrl))
+            return true;
+        if (entry.alternativeSources != null) {
+            for (SourceInfo source : entry.alternativeSources) {
+                if (source.serverId == serverId && java.util.Objects.equals(source.pageUrl, pageUrl))
+                    return true;
+            }
+        }
+        return false;
+    }
+}
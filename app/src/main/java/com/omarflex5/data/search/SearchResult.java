@@ -0,0 +1,47 @@
+package com.omarflex5.data.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One merged search result card. Results published in a snapshot are never
+ * modified again (see SearchMergeIndex); changes go to a copy().
+ */
+public class SearchResult {
+    public String title;
+    public String posterUrl;
+    public String pageUrl;
+    public String type;
+    public Integer year;
+    public String matchKey;
+    public long serverId;
+    public String serverName;
+    public String serverLabel;
+    public List<String> categories;
+    public List<SourceInfo> alternativeSources;
+    public long mediaId = -1;
+    // Filled in once the write-behind sync has matched watch history
+    public long watchProgress;
+    public long duration;
+    public boolean watched;
+
+    SearchResult copy() {
+        SearchResult copy = new SearchResult();
+        copy.title = title;
+        copy.posterUrl = posterUrl;
+        copy.pageUrl = pageUrl;
+        copy.type = type;
+        copy.year = year;
+        copy.matchKey = matchKey;
+        copy.serverId = serverId;
+        copy.serverName = serverName;
+        copy.serverLabel = serverLabel;
+        copy.categories = categories;
+        copy.alternativeSources = alternativeSources != null ? new ArrayList<>(alternativeSources) : null;
+        copy.mediaId = mediaId;
+        copy.watchProgress = watchProgress;
+        copy.duration = duration;
+        copy.watched = watched;
+        return copy;
+    }
+}
@@ -0,0 +1,234 @@
+package com.omarflex5.data.search;
+
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.omarflex5.data.local.AppDatabase;
+import com.omarflex5.data.local.dao.SearchCacheDao;
+import com.omarflex5.data.local.dao.SearchQueueDao;
+import com.omarflex5.data.local.entity.SearchCacheEntity;
+import com.omarflex5.data.local.entity.SearchQueueEntity;
+import com.omarflex5.data.local.entity.SearchQueueKind;
+import com.omarflex5.data.local.entity.SearchQueueStatus;
+import com.omarflex5.data.local.entity.ServerEntity;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Room-backed stale-while-revalidate cache for unified search.
+ *
+ * Results are stored per normalized query + searched server set; pagination
+ * cursors are stored in search_queue (kind PAGE) so "Load More" keeps working
+ * from a cached list. Search URLs that hit Cloudflare are kept there too
+ * (kind CF_RETRY) until a WebView retry merges their results in. All methods
+ * hit the database and must run off the main thread.
+ */
+public class SearchResultCache {
+
+    private static final String TAG = "SearchResultCache";
+
+    // Younger than this: shown without refreshing
+    private static final long FRESH_MS = TimeUnit.MINUTES.toMillis(10);
+    // Older than this: ignored and eventually deleted
+    private static final long MAX_AGE_MS = TimeUnit.DAYS.toMillis(3);
+
+    private static final Type RESULTS_TYPE = new TypeToken<List<SearchResult>>() {
+    }.getType();
+
+    public static class Snapshot {
+        public final List<SearchResult> results;
+        public final List<SearchQueueEntity> cursors;
+        public final long updatedAt;
+
+        Snapshot(List<SearchResult> results, List<SearchQueueEntity> cursors, long updatedAt) {
+            this.results = results;
+            this.cursors = cursors;
+            this.updatedAt = updatedAt;
+        }
+
+        public boolean isFresh() {
+            return System.currentTimeMillis() - updatedAt < FRESH_MS;
+        }
+    }
+
+    private final SearchCacheDao searchCacheDao;
+    private final SearchQueueDao searchQueueDao;
+    private final Gson gson = new Gson();
+
+    public SearchResultCache(AppDatabase db) {
+        this.searchCacheDao = db.searchCacheDao();
+        this.searchQueueDao = db.searchQueueDao();
+    }
+
+    public static String normalizeQuery(String query) {
+        if (query == null)
+            return "";
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cache key: normalized query + sorted ids of the servers searched.
+     */
+    public static String cacheKey(String normalizedQuery, List<ServerEntity> servers) {
+        List<Long> ids = new ArrayList<>();
+        for (ServerEntity server : servers) {
+            ids.add(server.getId());
+        }
+        Collections.sort(ids);
+        StringBuilder sb = new StringBuilder(normalizedQuery).append('|');
+        for (Long id : ids) {
+            sb.append(id).append(',');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Load a usable snapshot, or null if missing/too old/unreadable.
+     */
+    public Snapshot load(String query, List<ServerEntity> servers) {
+        String normalized = normalizeQuery(query);
+        try {
+            SearchCacheEntity entry = searchCacheDao.get(cacheKey(normalized, servers));
+            if (entry == null || System.currentTimeMillis() - entry.getUpdatedAt() > MAX_AGE_MS) {
+                return null;
+            }
+            List<SearchResult> results = gson.fromJson(entry.getResultsJson(), RESULTS_TYPE);
+            if (results == null)
+                return null;
+            List<SearchQueueEntity> cursors = searchQueueDao.getPendingByKind(normalized, SearchQueueKind.PAGE);
+            Log.d(TAG, "Cache hit for '" + normalized + "': " + results.size() + " results, "
+                    + cursors.size() + " cursors");
+            return new Snapshot(results, cursors, entry.getUpdatedAt());
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to read search cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store the merged results and replace the pagination cursors of a query.
+     *
+     * @param cursors serverId/url pairs still to be fetched by "Load More"
+     */
+    public void save(String query, List<ServerEntity> servers, List<SearchResult> results,
+            List<SearchQueueEntity> cursors) {
+        write(normalizeQuery(query), servers, results, cursors, System.currentTimeMillis());
+    }
+
+    /**
+     * Merge late results (a background CF retry) into a query's cached list.
+     * Existing cursors are kept and the entry keeps its age, since only one
+     * server's results are new. Creates the entry if there is none.
+     *
+     * @param nextPage cursor for the retried server's next page, or null
+     */
+    public void merge(String query, List<ServerEntity> servers, List<SearchResult> results,
+            SearchQueueEntity nextPage) {
+        String normalized = normalizeQuery(query);
+        Snapshot cached = load(query, servers);
+        SearchMergeIndex merged = new SearchMergeIndex(cached != null ? cached.results : null);
+        merged.addAll(results);
+
+        List<SearchQueueEntity> cursors = new ArrayList<>();
+        if (cached != null)
+            cursors.addAll(cached.cursors);
+        if (nextPage != null)
+            cursors.add(nextPage);
+        write(normalized, servers, merged.snapshot(), cursors,
+                cached != null ? cached.updatedAt : System.currentTimeMillis());
+    }
+
+    private void write(String normalized, List<ServerEntity> servers, List<SearchResult> results,
+            List<SearchQueueEntity> cursors, long updatedAt) {
+        long now = System.currentTimeMillis();
+        try {
+            SearchCacheEntity entry = new SearchCacheEntity();
+            entry.setCacheKey(cacheKey(normalized, servers));
+            entry.setQuery(normalized);
+            entry.setResultsJson(gson.toJson(results, RESULTS_TYPE));
+            entry.setResultCount(results.size());
+            entry.setCreatedAt(now);
+            entry.setUpdatedAt(updatedAt);
+            searchCacheDao.upsert(entry);
+
+            for (SearchQueueEntity cursor : cursors) {
+                cursor.setQuery(normalized);
+                cursor.setKind(SearchQueueKind.PAGE);
+                cursor.setStatus(SearchQueueStatus.PENDING);
+                cursor.setCreatedAt(now);
+            }
+            searchQueueDao.replaceCursors(normalized, cursors);
+
+            searchCacheDao.deleteOlderThan(now - MAX_AGE_MS);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to write search cache: " + e.getMessage());
+        }
+    }
+
+    // ==================== CF RETRY QUEUE ====================
+
+    /**
+     * Persist a search URL that failed fast mode on Cloudflare.
+     */
+    public void enqueueRetry(String query, long serverId, String url) {
+        try {
+            SearchQueueEntity item = cursor(serverId, url);
+            item.setQuery(normalizeQuery(query));
+            item.setKind(SearchQueueKind.CF_RETRY);
+            item.setStatus(SearchQueueStatus.PENDING);
+            item.setCreatedAt(System.currentTimeMillis());
+            searchQueueDao.insert(item);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to queue CF retry: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pending retries, oldest first. Rows left IN_PROGRESS by a killed run
+     * are pending again.
+     */
+    public List<SearchQueueEntity> pendingRetries() {
+        searchQueueDao.resetInProgress(SearchQueueKind.CF_RETRY);
+        return searchQueueDao.getByKindAndStatus(SearchQueueKind.CF_RETRY, SearchQueueStatus.PENDING);
+    }
+
+    public void markRetryInProgress(SearchQueueEntity item) {
+        searchQueueDao.updateStatus(item.getId(), SearchQueueStatus.IN_PROGRESS, System.currentTimeMillis());
+    }
+
+    /**
+     * The retry did not get past the challenge; the next run tries again.
+     */
+    public void markRetryPending(SearchQueueEntity item) {
+        searchQueueDao.updateStatus(item.getId(), SearchQueueStatus.PENDING, System.currentTimeMillis());
+    }
+
+    public void markRetryFailed(SearchQueueEntity item, String error) {
+        searchQueueDao.markFailed(item.getId(), error, System.currentTimeMillis());
+    }
+
+    /**
+     * A retry succeeded, in the background or through "Load More".
+     */
+    public void markRetryDone(String query, long serverId, String url, int resultCount) {
+        try {
+            searchQueueDao.markDoneByUrl(normalizeQuery(query), serverId, url, SearchQueueKind.CF_RETRY,
+                    resultCount, System.currentTimeMillis());
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to update CF retry: " + e.getMessage());
+        }
+    }
+
+    public static SearchQueueEntity cursor(long serverId, String url) {
+        SearchQueueEntity cursor = new SearchQueueEntity();
+        cursor.setServerId(serverId);
+        cursor.setUrl(url);
+        return cursor;
+    }
+}
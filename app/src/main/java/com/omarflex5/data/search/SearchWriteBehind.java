@@ -0,0 +1,148 @@
+package com.omarflex5.data.search;
+
+import android.util.Log;
+
+import com.omarflex5.data.repository.MediaRepository;
+import com.omarflex5.data.scraper.BaseHtmlParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Write-behind persistence for parsed search results.
+ *
+ * Parsing hands its items over and returns immediately, so results are shown
+ * before they hit the database. A single writer thread drains everything
+ * queued so far, syncs it with one batched transaction per server, and
+ * reports the resolved media ids / watch progress back to the listener.
+ *
+ * Items are persisted even if the search that produced them was abandoned;
+ * only the listener decides whether the resolution is still useful.
+ */
+class SearchWriteBehind {
+
+    private static final String TAG = "SearchWriteBehind";
+
+    interface Listener {
+        /**
+         * Called on the writer thread, keyed by resultKey(serverId, pageUrl).
+         */
+        void onPersisted(Map<String, Resolution> resolved);
+    }
+
+    /**
+     * What the database knows about one parsed item.
+     */
+    static class Resolution {
+        final long mediaId;
+        final long watchProgress;
+        final long duration;
+        final boolean watched;
+
+        Resolution(long mediaId, long watchProgress, long duration, boolean watched) {
+            this.mediaId = mediaId;
+            this.watchProgress = watchProgress;
+            this.duration = duration;
+            this.watched = watched;
+        }
+
+        boolean isAppliedTo(SearchResult result) {
+            return result.mediaId == mediaId && result.watchProgress == watchProgress
+                    && result.duration == duration && result.watched == watched;
+        }
+
+        void applyTo(SearchResult result) {
+            result.mediaId = mediaId;
+            result.watchProgress = watchProgress;
+            result.duration = duration;
+            result.watched = watched;
+        }
+    }
+
+    private static class Batch {
+        final long serverId;
+        final List<BaseHtmlParser.ParsedItem> items;
+        final Listener listener;
+
+        Batch(long serverId, List<BaseHtmlParser.ParsedItem> items, Listener listener) {
+            this.serverId = serverId;
+            this.items = items;
+            this.listener = listener;
+        }
+    }
+
+    private final MediaRepository mediaRepository;
+    private final ConcurrentLinkedQueue<Batch> pending = new ConcurrentLinkedQueue<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+
+    SearchWriteBehind(MediaRepository mediaRepository) {
+        this.mediaRepository = mediaRepository;
+    }
+
+    static String resultKey(long serverId, String pageUrl) {
+        return serverId + "|" + pageUrl;
+    }
+
+    /**
+     * Queue items for persistence. The caller must not touch them afterwards.
+     * Batches are grouped by listener identity, so reuse one listener for
+     * items that belong together.
+     */
+    void enqueue(long serverId, List<BaseHtmlParser.ParsedItem> items, Listener listener) {
+        if (items == null || items.isEmpty())
+            return;
+        pending.add(new Batch(serverId, items, listener));
+        writer.execute(this::drain);
+    }
+
+    private void drain() {
+        // Everything that arrived while the previous drain was writing goes
+        // out together, one transaction per server and one callback per
+        // listener (callers pass one listener per search session); later
+        // drain() calls then find the queue empty
+        Map<Listener, Map<Long, List<BaseHtmlParser.ParsedItem>>> grouped = new LinkedHashMap<>();
+        Batch batch;
+        while ((batch = pending.poll()) != null) {
+            Map<Long, List<BaseHtmlParser.ParsedItem>> byServer = grouped.get(batch.listener);
+            if (byServer == null) {
+                byServer = new LinkedHashMap<>();
+                grouped.put(batch.listener, byServer);
+            }
+            List<BaseHtmlParser.ParsedItem> items = byServer.get(batch.serverId);
+            if (items == null) {
+                items = new ArrayList<>();
+                byServer.put(batch.serverId, items);
+            }
+            items.addAll(batch.items);
+        }
+
+        for (Map.Entry<Listener, Map<Long, List<BaseHtmlParser.ParsedItem>>> entry : grouped.entrySet()) {
+            Map<String, Resolution> resolved = new HashMap<>();
+            for (Map.Entry<Long, List<BaseHtmlParser.ParsedItem>> server : entry.getValue().entrySet()) {
+                long serverId = server.getKey();
+                List<BaseHtmlParser.ParsedItem> items = server.getValue();
+                try {
+                    mediaRepository.syncSearchResults(items, serverId);
+                } catch (Exception e) {
+                    Log.e(TAG, "Sync failed for server " + serverId + ": " + e.getMessage());
+                    continue;
+                }
+                for (BaseHtmlParser.ParsedItem item : items) {
+                    if (item.getMediaId() > 0) {
+                        resolved.put(resultKey(serverId, item.getPageUrl()), new Resolution(item.getMediaId(),
+                                item.getWatchProgress(), item.getDuration(), item.isWatched()));
+                    }
+                }
+            }
+            if (!resolved.isEmpty()) {
+                entry.getKey().onPersisted(resolved);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.omarflex5.data.search;
+
+import android.util.Log;
+
+import com.omarflex5.data.local.entity.ServerEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-server circuit breaker for the search fan-out.
+ *
+ * States:
+ * 1. CLOSED: every search goes to the server. FAILURE_THRESHOLD failures in a
+ * row open the circuit
+ * 2. OPEN: the server is skipped until its cooldown has passed. The cooldown
+ * starts at BASE_COOLDOWN_MS and doubles on each re-open, up to
+ * MAX_COOLDOWN_MS
+ * 3. HALF_OPEN: one search probes the server. Success closes the circuit;
+ * failure opens it again
+ *
+ * A Cloudflare challenge counts as success (the host is alive), a missed
+ * deadline as neither; the failure that eventually follows it (connect
+ * timeout) still counts. Page cache hits are never reported, only outcomes
+ * that reached the host. Circuits start from the entity's persisted
+ * consecutiveFailures/lastFailureAt, so a dead mirror stays skipped across
+ * restarts.
+ */
+class ServerCircuitBreaker {
+
+    private static final String TAG = "ServerCircuitBreaker";
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long BASE_COOLDOWN_MS = 2 * 60 * 1000;
+    private static final long MAX_COOLDOWN_MS = 15 * 60 * 1000;
+    // A probe that never reports (search cancelled) frees its slot after this
+    private static final long PROBE_TIMEOUT_MS = 60 * 1000;
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    enum Admission {
+        /** Circuit closed, search normally */
+        ALLOW,
+        /** Half-open, this search is the probe */
+        PROBE,
+        /** Open, skip the server */
+        REJECT
+    }
+
+    private static class Circuit {
+        State state = State.CLOSED;
+        int failures;
+        int trips;
+        long openedAt;
+        long probeStartedAt;
+    }
+
+    private final Map<Long, Circuit> circuits = new HashMap<>();
+
+    synchronized Admission admit(ServerEntity server, long now) {
+        Circuit circuit = circuitFor(server);
+        switch (circuit.state) {
+            case OPEN:
+                if (now - circuit.openedAt < cooldown(circuit))
+                    return Admission.REJECT;
+                circuit.state = State.HALF_OPEN;
+                circuit.probeStartedAt = now;
+                Log.d(TAG, server.getName() + " half-open, probing");
+                return Admission.PROBE;
+            case HALF_OPEN:
+                if (now - circuit.probeStartedAt < PROBE_TIMEOUT_MS)
+                    return Admission.REJECT;
+                circuit.probeStartedAt = now;
+                return Admission.PROBE;
+            case CLOSED:
+            default:
+                return Admission.ALLOW;
+        }
+    }
+
+    /**
+     * Probe a server regardless of its cooldown. Used when every server is
+     * open, so a search is never sent nowhere.
+     */
+    synchronized void forceProbe(ServerEntity server, long now) {
+        Circuit circuit = circuitFor(server);
+        if (circuit.state != State.CLOSED) {
+            circuit.state = State.HALF_OPEN;
+            circuit.probeStartedAt = now;
+        }
+    }
+
+    synchronized void onSuccess(ServerEntity server) {
+        Circuit circuit = circuitFor(server);
+        if (circuit.state != State.CLOSED)
+            Log.i(TAG, server.getName() + " recovered, circuit closed");
+        circuit.state = State.CLOSED;
+        circuit.failures = 0;
+        circuit.trips = 0;
+    }
+
+    synchronized void onFailure(ServerEntity server, long now) {
+        Circuit circuit = circuitFor(server);
+        circuit.failures++;
+        if (circuit.state == State.HALF_OPEN || circuit.failures >= FAILURE_THRESHOLD) {
+            circuit.trips = circuit.state == State.CLOSED ? 1 : circuit.trips + 1;
+            circuit.state = State.OPEN;
+            circuit.openedAt = now;
+            Log.w(TAG, server.getName() + " circuit open for " + cooldown(circuit) / 1000 + "s after "
+                    + circuit.failures + " failures");
+        }
+    }
+
+    /**
+     * The outcome says nothing about the server's health (missed deadline).
+     * A pending probe goes back to OPEN without a longer cooldown.
+     */
+    synchronized void onInconclusive(ServerEntity server, long now) {
+        Circuit circuit = circuitFor(server);
+        if (circuit.state == State.HALF_OPEN) {
+            circuit.state = State.OPEN;
+            circuit.openedAt = now;
+        }
+    }
+
+    synchronized State stateOf(ServerEntity server) {
+        return circuitFor(server).state;
+    }
+
+    private Circuit circuitFor(ServerEntity server) {
+        Circuit circuit = circuits.get(server.getId());
+        if (circuit == null) {
+            circuit = new Circuit();
+            circuit.failures = server.getConsecutiveFailures();
+            if (circuit.failures >= FAILURE_THRESHOLD && server.getLastFailureAt() != null) {
+                circuit.state = State.OPEN;
+                circuit.openedAt = server.getLastFailureAt();
+                circuit.trips = circuit.failures / FAILURE_THRESHOLD;
+            }
+            circuits.put(server.getId(), circuit);
+        }
+        return circuit;
+    }
+
+    private static long cooldown(Circuit circuit) {
+        int doublings = Math.min(Math.max(circuit.trips - 1, 0), 10);
+        return Math.min(MAX_COOLDOWN_MS, BASE_COOLDOWN_MS << doublings);
+    }
+}
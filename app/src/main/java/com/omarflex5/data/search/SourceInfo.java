@@ -0,0 +1,18 @@
+package com.omarflex5.data.search;
+
+/**
+ * Another server that has the same title as a SearchResult.
+ */
+public class SourceInfo {
+    public final long serverId;
+    public final String serverName;
+    public final String serverLabel;
+    public final String pageUrl;
+
+    public SourceInfo(long serverId, String serverName, String serverLabel, String pageUrl) {
+        this.serverId = serverId;
+        this.serverName = serverName;
+        this.serverLabel = serverLabel;
+        this.pageUrl = pageUrl;
+    }
+}
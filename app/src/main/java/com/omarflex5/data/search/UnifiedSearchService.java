@@ -1,6 +1,8 @@
 package com.omarflex5.data.search;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.lifecycle.LiveData;
@@ -8,13 +10,18 @@ import androidx.lifecycle.MutableLiveData;
 
 import com.omarflex5.data.local.AppDatabase;
 import com.omarflex5.data.local.dao.MediaSourceDao;
+import com.omarflex5.data.local.dao.ServerDao;
 import com.omarflex5.data.local.entity.MediaSourceEntity;
+import com.omarflex5.data.local.entity.SearchQueueEntity;
 import com.omarflex5.data.local.entity.ServerEntity;
+import com.omarflex5.data.network.CancellationToken;
 import com.omarflex5.data.repository.MediaRepository;
 import com.omarflex5.data.repository.ServerRepository;
 import com.omarflex5.data.scraper.BaseHtmlParser;
+import com.omarflex5.data.scraper.LatencyStats;
 import com.omarflex5.data.scraper.ParserFactory;
 import com.omarflex5.data.scraper.WebViewScraperManager;
+import com.omarflex5.worker.SearchRetryWorker;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,11 +29,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Unified search service that coordinates all search operations.
@@ -40,7 +48,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class UnifiedSearchService {
 
     private static final String TAG = "UnifiedSearch";
-    private static final int PARALLEL_TIMEOUT_SECONDS = 15;
+    // Overall budget of the fast phase; no server's deadline goes past it
+    private static final long SEARCH_BUDGET_MS = 15000;
+    private static final long MIN_SERVER_DEADLINE_MS = 3000;
+    private static final long DEADLINE_SLACK_MS = 500;
+    private static final long STREAM_EMIT_INTERVAL_MS = 300;
+    // Speculative next-page fetches: per "Load More" round and per search
+    private static final int PREFETCH_PAGES_PER_ROUND = 3;
+    private static final int PREFETCH_PAGES_PER_SESSION = 9;
 
     private static volatile UnifiedSearchService INSTANCE;
 
@@ -48,19 +63,69 @@ public class UnifiedSearchService {
     private final ServerRepository serverRepository;
     private final MediaRepository mediaRepository;
     private final MediaSourceDao mediaSourceDao;
+    private final ServerDao serverDao;
     private final WebViewScraperManager scraperManager;
+    private final SearchResultCache resultCache;
+    private final SearchWriteBehind writeBehind;
+    private final ServerCircuitBreaker circuitBreaker = new ServerCircuitBreaker();
     private final ExecutorService executor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
     // Search state
     private final MutableLiveData<SearchState> searchState = new MutableLiveData<>(SearchState.idle());
-    private String currentQuery = null;
-    private MetadataContext currentContext = null;
+    private final Object sessionLock = new Object();
+    private final AtomicLong generations = new AtomicLong();
+    private volatile SearchSession currentSession = null;
 
-    // Track tasks that failed Direct Search due to Cloudflare
-    private final List<SearchTask> lastFailedTasks = new ArrayList<>();
+    /**
+     * Everything owned by one search. A new search cancels the previous
+     * session: its OkHttp calls and WebView loads are aborted, queued parse
+     * work is skipped and nothing it publishes reaches the UI.
+     */
+    private static class SearchSession {
+        final long generation;
+        final String query;
+        final MetadataContext context;
+        final CancellationToken token = new CancellationToken();
+
+        // Servers this session fans out to (cache key + cursor resolution)
+        volatile List<ServerEntity> servers = new ArrayList<>();
+        // The ones actually searched, healthiest first (rankByHealth)
+        volatile List<ServerEntity> dispatched = new ArrayList<>();
+
+        // Tasks retried on "Load More": Direct Search hit Cloudflare, or the
+        // server missed its deadline
+        final List<SearchTask> failedTasks = new ArrayList<>();
+
+        // Set once a CF failure was persisted for the background retry worker
+        final AtomicBoolean cfRetryQueued = new AtomicBoolean(false);
+
+        // Queue for pagination (next page URLs to fetch on "Load More")
+        final List<SearchTask> paginationQueue = new ArrayList<>();
+
+        // Next pages fetched ahead of "Load More", keyed by taskKey()
+        final Map<String, PrefetchedPage> prefetched = new ConcurrentHashMap<>();
+        final AtomicInteger prefetchBudget = new AtomicInteger(PREFETCH_PAGES_PER_SESSION);
+
+        // Media ids / watch progress resolved by the write-behind sync
+        final Map<String, SearchWriteBehind.Resolution> resolved = new ConcurrentHashMap<>();
+        // One listener for all of the session's batches, so the write-behind
+        // can sync them together (set by startSession before publication)
+        SearchWriteBehind.Listener persistListener;
+
+        // Last state posted for this session (guarded by sessionLock)
+        SearchState lastPublished;
+
+        SearchSession(long generation, String query, MetadataContext context) {
+            this.generation = generation;
+            this.query = query;
+            this.context = context;
+        }
 
-    // Queue for pagination (next page URLs to fetch on "Load More")
-    private final List<SearchTask> paginationQueue = new ArrayList<>();
+        boolean isCancelled() {
+            return token.isCancelled();
+        }
+    }
 
     private static class SearchTask {
         final ServerEntity server;
@@ -72,12 +137,60 @@ public class UnifiedSearchService {
         }
     }
 
+    private static String taskKey(SearchTask task) {
+        return task.server.getId() + "|" + task.url;
+    }
+
+    /**
+     * A next page fetched and parsed ahead of "Load More". Completes once; a
+     * consumer that arrives before that waits for it.
+     */
+    private static class PrefetchedPage {
+        interface Consumer {
+            /**
+             * @param parsed the parsed page, or null if the prefetch failed
+             */
+            void accept(BaseHtmlParser.ParsedSearchResult parsed);
+        }
+
+        private boolean done;
+        private BaseHtmlParser.ParsedSearchResult parsed;
+        private Consumer waiter;
+
+        void complete(BaseHtmlParser.ParsedSearchResult parsed) {
+            Consumer consumer;
+            synchronized (this) {
+                if (done)
+                    return;
+                done = true;
+                this.parsed = parsed;
+                consumer = waiter;
+                waiter = null;
+            }
+            if (consumer != null)
+                consumer.accept(parsed);
+        }
+
+        void consume(Consumer consumer) {
+            synchronized (this) {
+                if (!done) {
+                    waiter = consumer;
+                    return;
+                }
+            }
+            consumer.accept(parsed);
+        }
+    }
+
     private UnifiedSearchService(Context context) {
         this.context = context.getApplicationContext();
         this.serverRepository = ServerRepository.getInstance(context);
         this.mediaRepository = MediaRepository.getInstance(context);
         this.mediaSourceDao = AppDatabase.getInstance(context).mediaSourceDao();
+        this.serverDao = AppDatabase.getInstance(context).serverDao();
         this.scraperManager = WebViewScraperManager.getInstance(context);
+        this.resultCache = new SearchResultCache(AppDatabase.getInstance(context));
+        this.writeBehind = new SearchWriteBehind(mediaRepository);
         this.executor = Executors.newFixedThreadPool(4);
 
         // Initialize WebView
@@ -121,25 +234,24 @@ public class UnifiedSearchService {
 
     public void search(String query, MetadataContext context) {
         if (query == null || query.trim().isEmpty()) {
-            searchState.postValue(SearchState.idle());
+            clearSearch();
             return;
         }
 
-        currentQuery = query.trim();
-        currentContext = context;
-        searchState.postValue(SearchState.loading(currentQuery));
-        lastFailedTasks.clear(); // Clear previous session failures
-        paginationQueue.clear(); // Clear previous pagination queue
+        SearchSession session = startSession(query.trim(), context);
 
-        Log.d(TAG, "Starting search: " + currentQuery + (context != null ? " with context" : ""));
+        Log.d(TAG, "Starting search #" + session.generation + ": " + session.query
+                + (context != null ? " with context" : ""));
 
         executor.execute(() -> {
             try {
                 // Get all searchable servers
                 serverRepository.getSearchableServers(servers -> {
+                    if (session.isCancelled())
+                        return;
                     if (servers == null || servers.isEmpty()) {
                         Log.e(TAG, "Search failed: No servers found in DB query.");
-                        searchState.postValue(SearchState.error(currentQuery, "No servers available"));
+                        publish(session, SearchState.error(session.query, "No servers available"));
                         return;
                     }
 
@@ -153,133 +265,452 @@ public class UnifiedSearchService {
                         }
                     }
 
-                    // Generate All Search Tasks
+                    // Generate search tasks for servers whose circuit admits them,
+                    // healthiest first. Skipped servers stay in session.servers so
+                    // the cache key does not change with breaker state.
+                    List<ServerEntity> dispatched = rankByHealth(activeServers);
                     List<SearchTask> allTasks = new ArrayList<>();
-                    for (ServerEntity server : activeServers) {
-                        List<String> urls = ParserFactory.getSearchUrls(server, currentQuery);
+                    for (ServerEntity server : dispatched) {
+                        List<String> urls = ParserFactory.getSearchUrls(server, session.query);
                         for (String url : urls) {
                             allTasks.add(new SearchTask(server, url));
                         }
                     }
 
                     Log.d(TAG,
-                            "Starting Hybrid Search with " + allTasks.size() + " tasks across " + activeServers.size()
-                                    + " servers.");
-
-                    // Execute Fast Search (Strict Mode: allowFallback=false)
-                    List<SearchResult> allResults = searchFastTasks(allTasks, context);
-
-                    // Deduplicate results
-                    List<SearchResult> deduped = deduplicateResults(allResults);
-
-                    // Decision Time
-                    if (deduped.isEmpty() && !lastFailedTasks.isEmpty()) {
-                        Log.i(TAG, "Fast search empty. Auto-triggering queue for " + lastFailedTasks.size()
-                                + " tasks.");
+                            "Starting Hybrid Search with " + allTasks.size() + " tasks across " + dispatched.size()
+                                    + "/" + activeServers.size() + " servers.");
 
-                        // Copy list to avoid concurrent modification issues
-                        List<SearchTask> toQueue = new ArrayList<>();
-                        synchronized (lastFailedTasks) {
-                            toQueue.addAll(lastFailedTasks);
-                        }
-
-                        // Auto-queue logic
-                        processNextQueuedTask(toQueue, 0, deduped, new ArrayList<>(), context);
-
-                    } else if (!lastFailedTasks.isEmpty()) {
-                        // We have results, but some tasks failed. Allow "Load More".
-                        // Calculate unique servers from failed tasks
-                        Set<Long> failedServerIds = new HashSet<>();
-                        for (SearchTask t : lastFailedTasks)
-                            failedServerIds.add(t.server.getId());
-                        searchState.postValue(SearchState.partial(currentQuery, deduped, failedServerIds.size()));
-                    } else {
-                        // All good (or all failed with non-CF errors)
-                        searchState.postValue(SearchState.complete(currentQuery, deduped));
-                    }
+                    session.servers = activeServers;
+                    session.dispatched = dispatched;
+                    executor.execute(() -> searchWithCache(session, allTasks));
                 });
             } catch (Exception e) {
                 Log.e(TAG, "Search error: " + e.getMessage());
-                searchState.postValue(SearchState.error(currentQuery, e.getMessage()));
+                publish(session, SearchState.error(session.query, e.getMessage()));
             }
         });
     }
 
     /**
-     * Search fast servers in parallel.
+     * Stale-while-revalidate: show the cached list for this query at once,
+     * then refresh it with a fast fan-out that merges into it.
+     * Fresh cache entries skip the fan-out entirely.
      */
-    private List<SearchResult> searchFastTasks(List<SearchTask> tasks, MetadataContext context) {
-        List<SearchResult> allResults = new ArrayList<>();
-        CountDownLatch latch = new CountDownLatch(tasks.size());
-        Object lock = new Object();
+    private void searchWithCache(SearchSession session, List<SearchTask> allTasks) {
+        if (session.isCancelled())
+            return;
 
-        for (SearchTask task : tasks) {
-            executor.execute(() -> {
-                try {
-                    // Try to search FAST (allowFallback = false)
-                    List<SearchResult> results = searchSingleTask(task, false, context);
-                    synchronized (lock) {
-                        allResults.addAll(results);
-                    }
-                } catch (Exception e) {
-                    Log.e(TAG, "Fast Search Ex: " + e.getMessage());
-                } finally {
-                    latch.countDown();
-                }
-            });
+        List<SearchResult> base = new ArrayList<>();
+        SearchResultCache.Snapshot cached = resultCache.load(session.query, session.servers);
+        if (cached != null) {
+            base = cached.results;
+            restoreCursors(session, cached);
+
+            if (cached.isFresh()) {
+                Log.d(TAG, "Serving fresh cached results for: " + session.query);
+                publish(session, SearchState.complete(session.query, base));
+                prefetchNextPages(session);
+                return;
+            }
+            Log.d(TAG, "Serving stale cached results, refreshing: " + session.query);
+            publish(session, SearchState.loading(session.query, base, allTasks.size()));
         }
 
-        try {
-            latch.await(PARALLEL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Log.w(TAG, "Parallel search interrupted");
+        // Execute Fast Search (Strict Mode: allowFallback=false), streaming results
+        streamFastTasks(session, allTasks, base);
+    }
+
+    private void restoreCursors(SearchSession session, SearchResultCache.Snapshot cached) {
+        Map<Long, ServerEntity> byId = new HashMap<>();
+        for (ServerEntity server : session.servers) {
+            byId.put(server.getId(), server);
+        }
+        synchronized (session.paginationQueue) {
+            for (SearchQueueEntity cursor : cached.cursors) {
+                ServerEntity server = byId.get(cursor.getServerId());
+                if (server != null && cursor.getUrl() != null) {
+                    session.paginationQueue.add(new SearchTask(server, cursor.getUrl()));
+                }
+            }
         }
+    }
 
-        return allResults;
+    /**
+     * Persist merged results and remaining pagination cursors for the query.
+     */
+    private void saveToCache(SearchSession session, List<SearchResult> results) {
+        if (session.isCancelled() || results.isEmpty())
+            return;
+        results = applyResolved(session, results);
+        List<SearchQueueEntity> cursors = new ArrayList<>();
+        synchronized (session.paginationQueue) {
+            for (SearchTask task : session.paginationQueue) {
+                cursors.add(SearchResultCache.cursor(task.server.getId(), task.url));
+            }
+        }
+        resultCache.save(session.query, session.servers, results, cursors);
     }
 
     /**
-     * Search a single server using WebView scraper.
+     * Cancel the running session (if any) and make a new one current.
      */
-    private List<SearchResult> searchSingleTask(SearchTask task, boolean allowFallback, MetadataContext context) {
-        List<SearchResult> results = new ArrayList<>();
-        CountDownLatch latch = new CountDownLatch(1);
+    private SearchSession startSession(String query, MetadataContext context) {
+        SearchSession session = new SearchSession(generations.incrementAndGet(), query, context);
+        session.persistListener = resolved -> onResultsPersisted(session, resolved);
+        SearchSession previous;
+        synchronized (sessionLock) {
+            previous = currentSession;
+            currentSession = session;
+            searchState.postValue(SearchState.loading(query));
+        }
+        if (previous != null) {
+            Log.d(TAG, "Cancelling search #" + previous.generation + " (" + previous.query + ")");
+            previous.token.cancel();
+        }
+        return session;
+    }
 
-        scraperManager.search(task.server, task.url, allowFallback, null, new WebViewScraperManager.ScraperCallback() {
-            @Override
-            public void onSuccess(String html, Map<String, String> cookies) {
-                try {
-                    results.addAll(parseResults(task.server, html, context));
-                    serverRepository.recordSuccess(task.server);
-                } catch (Exception e) {
-                    Log.e(TAG, "Parsing error in searchSingleTask", e);
-                } finally {
-                    latch.countDown();
+    /**
+     * Post a state only if the session is still the current one, so results of
+     * an abandoned search can never overwrite a newer one.
+     * Media ids resolved so far are applied on the way out, so a snapshot
+     * built before its items were persisted never hides them again.
+     */
+    private void publish(SearchSession session, SearchState state) {
+        synchronized (sessionLock) {
+            if (session == currentSession && !session.isCancelled()) {
+                List<SearchResult> results = applyResolved(session, state.results);
+                if (results != state.results) {
+                    state = state.withResults(results);
                 }
+                session.lastPublished = state;
+                searchState.postValue(state);
             }
+        }
+    }
 
-            @Override
-            public void onError(String message) {
-                if ("CLOUDFLARE_DETECTED".equals(message)) {
-                    Log.w(TAG, "Capturing CF Failure for task: " + task.url);
-                    synchronized (lastFailedTasks) {
-                        lastFailedTasks.add(task);
-                    }
-                } else {
-                    Log.e(TAG, "Search failed on " + task.server.getName() + ": " + message);
-                    serverRepository.recordFailure(task.server);
+    /**
+     * Write-behind sync finished a batch: fold the ids into the live list.
+     * Runs on the writer thread.
+     */
+    private void onResultsPersisted(SearchSession session, Map<String, SearchWriteBehind.Resolution> resolved) {
+        if (session.isCancelled())
+            return;
+        session.resolved.putAll(resolved);
+
+        SearchState updated = null;
+        synchronized (sessionLock) {
+            SearchState last = session.lastPublished;
+            if (last != null && applyResolved(session, last.results) != last.results) {
+                publish(session, last);
+                updated = session.lastPublished;
+            }
+        }
+        // Terminal lists were cached before their ids were known
+        if (updated != null && (updated.status == SearchState.Status.COMPLETE
+                || updated.status == SearchState.Status.PARTIAL)) {
+            saveToCache(session, updated.results);
+        }
+    }
+
+    /**
+     * Returns results with resolved ids applied, copying only changed items.
+     * The same list is returned when nothing changed.
+     */
+    private List<SearchResult> applyResolved(SearchSession session, List<SearchResult> results) {
+        if (session.resolved.isEmpty() || results == null)
+            return results;
+        List<SearchResult> applied = null;
+        for (int i = 0; i < results.size(); i++) {
+            SearchResult result = results.get(i);
+            SearchWriteBehind.Resolution resolution = session.resolved
+                    .get(SearchWriteBehind.resultKey(result.serverId, result.pageUrl));
+            if (resolution != null && !resolution.isAppliedTo(result)) {
+                if (applied == null)
+                    applied = new ArrayList<>(results);
+                SearchResult copy = result.copy();
+                resolution.applyTo(copy);
+                applied.set(i, copy);
+            }
+        }
+        return applied != null ? java.util.Collections.unmodifiableList(applied) : results;
+    }
+
+    /**
+     * Search fast servers in parallel and stream merged results as each
+     * server's parse completes. Updates are coalesced to one per
+     * STREAM_EMIT_INTERVAL_MS; the final decision runs once every task has
+     * reported or been deferred.
+     *
+     * Each server gets its own deadline (see deadlineFor). A server that
+     * misses it moves to the "Load More" queue instead of holding back the
+     * list. Its request keeps running and fills the page cache, so the retry
+     * is usually instant.
+     */
+    private void streamFastTasks(SearchSession session, List<SearchTask> tasks, List<SearchResult> base) {
+        SearchMergeIndex merged = new SearchMergeIndex(base);
+        AtomicInteger remaining = new AtomicInteger(tasks.size());
+        AtomicBoolean finished = new AtomicBoolean(false);
+        CoalescingEmitter<SearchState> emitter = new CoalescingEmitter<>(STREAM_EMIT_INTERVAL_MS,
+                state -> publish(session, state));
+        List<Runnable> deadlines = new ArrayList<>();
+
+        Runnable finish = () -> {
+            if (finished.getAndSet(true))
+                return;
+            if (session.isCancelled())
+                return;
+            onFastSearchFinished(session, merged.snapshot(), emitter);
+        };
+
+        if (tasks.isEmpty()) {
+            finish.run();
+            return;
+        }
+
+        for (SearchTask task : tasks) {
+            // Set once the task has reported or been deferred
+            AtomicBoolean settled = new AtomicBoolean(false);
+            long deadlineMs = deadlineFor(task.server);
+            Runnable deadline = () -> executor.execute(() -> {
+                if (session.isCancelled() || settled.getAndSet(true))
+                    return;
+                Log.w(TAG, task.server.getName() + " missed its " + deadlineMs + " ms deadline, moved to Load More");
+                circuitBreaker.onInconclusive(task.server, System.currentTimeMillis());
+                synchronized (session.failedTasks) {
+                    session.failedTasks.add(task);
                 }
-                latch.countDown();
+                onFastTaskFinished(session, remaining, merged, emitter, finish);
+            });
+            deadlines.add(deadline);
+            mainHandler.postDelayed(deadline, deadlineMs);
+
+            scraperManager.search(task.server, task.url, false, null, session.token,
+                    new WebViewScraperManager.ScraperCallback() {
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies) {
+                            onSuccess(html, cookies, WebViewScraperManager.Origin.NETWORK);
+                        }
+
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies,
+                                WebViewScraperManager.Origin origin) {
+                            if (session.isCancelled())
+                                return;
+                            // A page cache hit says nothing about the host's health
+                            boolean reachedServer = origin == WebViewScraperManager.Origin.NETWORK;
+                            executor.execute(() -> {
+                                if (session.isCancelled())
+                                    return;
+                                if (settled.getAndSet(true)) {
+                                    // Already deferred to Load More: only the bookkeeping
+                                    Log.d(TAG, "Dropping late results from " + task.server.getName());
+                                    if (reachedServer) {
+                                        serverRepository.recordSuccess(task.server);
+                                        circuitBreaker.onSuccess(task.server);
+                                    }
+                                    return;
+                                }
+                                mainHandler.removeCallbacks(deadline);
+                                try {
+                                    List<SearchResult> results = parseResults(session, task.server, html);
+                                    if (reachedServer) {
+                                        serverRepository.recordSuccess(task.server);
+                                        circuitBreaker.onSuccess(task.server);
+                                    }
+                                    if (finished.get()) {
+                                        Log.d(TAG, "Dropping late results from " + task.server.getName());
+                                        return;
+                                    }
+                                    merged.addAll(results);
+                                } catch (Exception e) {
+                                    Log.e(TAG, "Parsing error in streamFastTasks", e);
+                                } finally {
+                                    onFastTaskFinished(session, remaining, merged, emitter, finish);
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void onError(String message) {
+                            if (session.isCancelled())
+                                return;
+                            boolean cloudflare = "CLOUDFLARE_DETECTED".equals(message);
+                            if (settled.getAndSet(true)) {
+                                // Already deferred to Load More, but a real failure still
+                                // counts (e.g. a blackholed host hitting the connect timeout)
+                                if (!cloudflare) {
+                                    Log.e(TAG, "Late failure on " + task.server.getName() + ": " + message);
+                                    serverRepository.recordFailure(task.server);
+                                    circuitBreaker.onFailure(task.server, System.currentTimeMillis());
+                                    return;
+                                }
+                                // Deferred by the deadline, but the challenge still has to
+                                // survive process death; the fast phase may be over already
+                                Log.w(TAG, "Late CF failure on " + task.server.getName() + ", queueing retry");
+                                executor.execute(() -> {
+                                    resultCache.enqueueRetry(session.query, task.server.getId(), task.url);
+                                    session.cfRetryQueued.set(true);
+                                    SearchRetryWorker.schedule(context);
+                                });
+                                return;
+                            }
+                            mainHandler.removeCallbacks(deadline);
+                            if (cloudflare) {
+                                Log.w(TAG, "Capturing CF Failure for task: " + task.url);
+                                // The host answered; only the clearance is missing
+                                circuitBreaker.onSuccess(task.server);
+                                synchronized (session.failedTasks) {
+                                    session.failedTasks.add(task);
+                                }
+                            } else {
+                                Log.e(TAG, "Search failed on " + task.server.getName() + ": " + message);
+                                serverRepository.recordFailure(task.server);
+                                circuitBreaker.onFailure(task.server, System.currentTimeMillis());
+                            }
+                            executor.execute(() -> {
+                                if (cloudflare) {
+                                    resultCache.enqueueRetry(session.query, task.server.getId(), task.url);
+                                    session.cfRetryQueued.set(true);
+                                }
+                                onFastTaskFinished(session, remaining, merged, emitter, finish);
+                            });
+                        }
+                    });
+        }
+        session.token.onCancel(() -> {
+            for (Runnable deadline : deadlines)
+                mainHandler.removeCallbacks(deadline);
+            emitter.finish(null);
+        });
+    }
+
+    /**
+     * Deadline for one server's fast search: its p95 fetch (TTFB + body) plus
+     * p95 parse, with a 1.5x margin, within MIN_SERVER_DEADLINE_MS and the
+     * overall SEARCH_BUDGET_MS. Servers without enough samples get the whole
+     * budget.
+     */
+    private long deadlineFor(ServerEntity server) {
+        LatencyStats stats = scraperManager.getLatencyStats(server);
+        long ttfb = stats.percentile(LatencyStats.Phase.TTFB, 0.95);
+        long body = stats.percentile(LatencyStats.Phase.BODY, 0.95);
+        if (ttfb < 0 || body < 0)
+            return SEARCH_BUDGET_MS;
+        long parse = Math.max(0, stats.percentile(LatencyStats.Phase.PARSE, 0.95));
+        long deadline = (ttfb + body + parse) * 3 / 2 + DEADLINE_SLACK_MS;
+        return Math.max(MIN_SERVER_DEADLINE_MS, Math.min(SEARCH_BUDGET_MS, deadline));
+    }
+
+    /**
+     * Servers to search, in dispatch order. Open circuits are left out (at
+     * most one half-open probe per server), then servers are ordered by
+     * circuit state, recent failures, currentPriority and expected latency.
+     * If every circuit is open, all servers are probed rather than searching
+     * nothing.
+     */
+    private List<ServerEntity> rankByHealth(List<ServerEntity> servers) {
+        long now = System.currentTimeMillis();
+        List<ServerEntity> admitted = new ArrayList<>();
+        Set<Long> probes = new HashSet<>();
+        for (ServerEntity server : servers) {
+            ServerCircuitBreaker.Admission admission = circuitBreaker.admit(server, now);
+            if (admission == ServerCircuitBreaker.Admission.REJECT) {
+                Log.d(TAG, "Skipping " + server.getName() + ", circuit "
+                        + circuitBreaker.stateOf(server));
+                continue;
+            }
+            if (admission == ServerCircuitBreaker.Admission.PROBE)
+                probes.add(server.getId());
+            admitted.add(server);
+        }
+
+        if (admitted.isEmpty() && !servers.isEmpty()) {
+            Log.w(TAG, "All circuits open, probing every server");
+            for (ServerEntity server : servers) {
+                circuitBreaker.forceProbe(server, now);
+                probes.add(server.getId());
+                admitted.add(server);
             }
+        }
+
+        Map<Long, Long> expectedMs = new HashMap<>();
+        for (ServerEntity server : admitted) {
+            expectedMs.put(server.getId(), expectedLatencyMs(server));
+        }
+        java.util.Collections.sort(admitted, (a, b) -> {
+            int cmp = Boolean.compare(probes.contains(a.getId()), probes.contains(b.getId()));
+            if (cmp == 0)
+                cmp = Integer.compare(a.getConsecutiveFailures(), b.getConsecutiveFailures());
+            if (cmp == 0)
+                cmp = Integer.compare(a.getCurrentPriority(), b.getCurrentPriority());
+            if (cmp == 0)
+                cmp = Long.compare(expectedMs.get(a.getId()), expectedMs.get(b.getId()));
+            return cmp;
         });
+        return admitted;
+    }
 
-        try {
-            latch.await(PARALLEL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Log.w(TAG, "Search timeout for " + task.url);
+    // p50 fetch time, or the whole budget for servers without samples
+    private long expectedLatencyMs(ServerEntity server) {
+        LatencyStats stats = scraperManager.getLatencyStats(server);
+        long ttfb = stats.percentile(LatencyStats.Phase.TTFB, 0.5);
+        long body = stats.percentile(LatencyStats.Phase.BODY, 0.5);
+        return ttfb < 0 || body < 0 ? SEARCH_BUDGET_MS : ttfb + body;
+    }
+
+    private void onFastTaskFinished(SearchSession session, AtomicInteger remaining, SearchMergeIndex merged,
+            CoalescingEmitter<SearchState> emitter, Runnable finish) {
+        int left = remaining.decrementAndGet();
+        if (left <= 0) {
+            finish.run();
+            return;
         }
 
-        return results;
+        List<SearchResult> snapshot = merged.snapshotIfChanged();
+        if (snapshot != null) {
+            emitter.submit(SearchState.loading(session.query, snapshot, left));
+        }
+    }
+
+    /**
+     * Decision time once the fast phase is over.
+     */
+    private void onFastSearchFinished(SearchSession session, List<SearchResult> deduped,
+            CoalescingEmitter<SearchState> emitter) {
+        // CF retries are persisted; if neither Load More nor the auto-queue
+        // gets them done, the worker merges them into the cache later
+        if (session.cfRetryQueued.get())
+            SearchRetryWorker.schedule(context);
+
+        List<SearchTask> failed;
+        synchronized (session.failedTasks) {
+            failed = new ArrayList<>(session.failedTasks);
+        }
+
+        if (deduped.isEmpty() && !failed.isEmpty()) {
+            Log.i(TAG, "Fast search empty. Auto-triggering queue for " + failed.size() + " tasks.");
+            emitter.finish(null);
+
+            // Auto-queue logic
+            processQueuedTasks(session, failed, deduped);
+
+        } else if (!failed.isEmpty()) {
+            // We have results, but some tasks failed. Allow "Load More".
+            // Calculate unique servers from failed tasks
+            Set<Long> failedServerIds = new HashSet<>();
+            for (SearchTask t : failed)
+                failedServerIds.add(t.server.getId());
+            emitter.finish(SearchState.partial(session.query, deduped, failedServerIds.size()));
+            saveToCache(session, deduped);
+            prefetchNextPages(session);
+        } else {
+            // All good (or all failed with non-CF errors)
+            emitter.finish(SearchState.complete(session.query, deduped));
+            saveToCache(session, deduped);
+            prefetchNextPages(session);
+        }
     }
 
     /**
@@ -287,41 +718,42 @@ public class UnifiedSearchService {
      * Priority: 1) Pagination queue (next pages), 2) CF retry queue
      */
     public void processQueuedServers() {
-        if (currentQuery == null)
+        SearchSession session = currentSession;
+        if (session == null || session.isCancelled())
             return;
 
         // Snapshot current results (from Fast phase) to use as base
-        List<SearchResult> baseResults = getCurrentResults();
-        searchState.postValue(SearchState.loadingMore(currentQuery, baseResults));
+        List<SearchResult> baseResults = getCurrentResults(session);
+        publish(session, SearchState.loadingMore(session.query, baseResults));
 
         // Priority 1: Process pagination queue first (round-robin across servers)
         List<SearchTask> toProcess = new ArrayList<>();
-        synchronized (paginationQueue) {
-            if (!paginationQueue.isEmpty()) {
+        synchronized (session.paginationQueue) {
+            if (!session.paginationQueue.isEmpty()) {
                 // Take one task per server for round-robin
-                toProcess.addAll(paginationQueue);
-                paginationQueue.clear();
+                toProcess.addAll(session.paginationQueue);
+                session.paginationQueue.clear();
                 Log.d(TAG, "Processing pagination tasks: " + toProcess.size());
             }
         }
 
         // Priority 2: If no pagination tasks, process CF retry queue
         if (toProcess.isEmpty()) {
-            synchronized (lastFailedTasks) {
-                if (!lastFailedTasks.isEmpty()) {
-                    toProcess.addAll(lastFailedTasks);
-                    lastFailedTasks.clear();
+            synchronized (session.failedTasks) {
+                if (!session.failedTasks.isEmpty()) {
+                    toProcess.addAll(session.failedTasks);
+                    session.failedTasks.clear();
                     Log.d(TAG, "Processing CF retry tasks: " + toProcess.size());
                 }
             }
         }
 
         if (!toProcess.isEmpty()) {
-            processNextQueuedTask(toProcess, 0, baseResults, new ArrayList<>(), currentContext);
+            processQueuedTasks(session, toProcess, baseResults);
         } else {
             // No more tasks - mark as complete
             Log.d(TAG, "No more tasks to process");
-            searchState.postValue(SearchState.complete(currentQuery, baseResults));
+            publish(session, SearchState.complete(session.query, baseResults));
         }
     }
 
@@ -330,67 +762,125 @@ public class UnifiedSearchService {
      * Used by UI to show/hide "Load More" button.
      */
     public boolean hasPendingTasks() {
-        synchronized (paginationQueue) {
-            if (!paginationQueue.isEmpty())
+        SearchSession session = currentSession;
+        if (session == null)
+            return false;
+        synchronized (session.paginationQueue) {
+            if (!session.paginationQueue.isEmpty())
                 return true;
         }
-        synchronized (lastFailedTasks) {
-            return !lastFailedTasks.isEmpty();
+        synchronized (session.failedTasks) {
+            return !session.failedTasks.isEmpty();
         }
     }
 
-    private void processNextQueuedTask(List<SearchTask> tasks, int index,
-            List<SearchResult> baseResults, List<SearchResult> accumulated, MetadataContext context) {
+    /**
+     * Run queued tasks concurrently.
+     * Each CF fallback leases its own pooled WebView, so protected servers are
+     * solved side by side instead of one after another. Pages already
+     * prefetched are applied from memory; a prefetch still in flight is
+     * awaited, a failed one falls back to a normal fetch.
+     */
+    private void processQueuedTasks(SearchSession session, List<SearchTask> tasks, List<SearchResult> baseResults) {
+        SearchMergeIndex merged = new SearchMergeIndex(baseResults);
+        AtomicInteger remaining = new AtomicInteger(tasks.size());
 
-        if (index >= tasks.size()) {
-            // All done - merge final results
-            List<SearchResult> finalResults = new ArrayList<>(baseResults);
-            finalResults.addAll(accumulated);
-            List<SearchResult> deduped = deduplicateResults(finalResults);
-            searchState.postValue(SearchState.complete(currentQuery, deduped));
-            return;
+        for (SearchTask task : tasks) {
+            PrefetchedPage page = session.prefetched.remove(taskKey(task));
+            if (page == null) {
+                runQueuedTask(session, task, merged, remaining);
+                continue;
+            }
+            Log.d(TAG, "Answering QUEUED task from prefetch: " + task.url);
+            page.consume(parsed -> executor.execute(() -> {
+                if (session.isCancelled())
+                    return;
+                if (parsed == null) {
+                    runQueuedTask(session, task, merged, remaining);
+                    return;
+                }
+                try {
+                    merged.addAll(collectResults(session, task.server, parsed));
+                } catch (Exception e) {
+                    Log.e(TAG, "Error applying prefetched page", e);
+                } finally {
+                    onQueuedTaskFinished(session, remaining, merged);
+                }
+            }));
         }
+    }
 
-        SearchTask task = tasks.get(index);
+    private void runQueuedTask(SearchSession session, SearchTask task, SearchMergeIndex merged,
+            AtomicInteger remaining) {
         Log.d(TAG, "Processing QUEUED task: " + task.url);
 
         // IN THE QUEUE: Allow Fallback = TRUE
-        scraperManager.search(task.server, task.url, true, null, new WebViewScraperManager.ScraperCallback() {
-            @Override
-            public void onSuccess(String html, Map<String, String> cookies) {
-                executor.execute(() -> {
-                    try {
-                        List<SearchResult> results = parseResults(task.server, html, context);
-                        accumulated.addAll(results);
-
-                        // Update progress (approximate by unique servers or just tasks)
-                        int remaining = tasks.size() - index - 1;
-
-                        // Construct current display list: Base + Accumulated So Far
-                        List<SearchResult> currentDisplay = new ArrayList<>(baseResults);
-                        currentDisplay.addAll(accumulated);
-
-                        searchState.postValue(SearchState.partial(currentQuery,
-                                deduplicateResults(currentDisplay), remaining));
-
-                        // Process next
-                        processNextQueuedTask(tasks, index + 1, baseResults, accumulated, context);
-                    } catch (Exception e) {
-                        Log.e(TAG, "Error in background search processing", e);
-                        processNextQueuedTask(tasks, index + 1, baseResults, accumulated, context);
+        scraperManager.search(task.server, task.url, true, null, session.token,
+                new WebViewScraperManager.ScraperCallback() {
+                    @Override
+                    public void onSuccess(String html, Map<String, String> cookies) {
+                        onSuccess(html, cookies, WebViewScraperManager.Origin.NETWORK);
+                    }
+
+                    @Override
+                    public void onSuccess(String html, Map<String, String> cookies,
+                            WebViewScraperManager.Origin origin) {
+                        if (session.isCancelled())
+                            return;
+                        executor.execute(() -> {
+                            if (session.isCancelled())
+                                return;
+                            if (origin == WebViewScraperManager.Origin.WEBVIEW_TIMEOUT) {
+                                // The unsolved challenge page: keep the CF retry row
+                                // pending for the worker instead of closing it empty
+                                Log.w(TAG, "Queued task timed out on the challenge (" + task.url + ")");
+                                SearchRetryWorker.schedule(context);
+                                onQueuedTaskFinished(session, remaining, merged);
+                                return;
+                            }
+                            try {
+                                List<SearchResult> results = parseResults(session, task.server, html);
+                                if (origin == WebViewScraperManager.Origin.NETWORK)
+                                    circuitBreaker.onSuccess(task.server);
+                                resultCache.markRetryDone(session.query, task.server.getId(), task.url,
+                                        results.size());
+                                merged.addAll(results);
+                            } catch (Exception e) {
+                                Log.e(TAG, "Error in background search processing", e);
+                            } finally {
+                                onQueuedTaskFinished(session, remaining, merged);
+                            }
+                        });
                     }
-                });
-            }
 
-            @Override
-            public void onError(String message) {
-                executor.execute(() -> {
-                    Log.e(TAG, "Queued task failed (" + task.url + "): " + message);
-                    // Continue with next task
-                    processNextQueuedTask(tasks, index + 1, baseResults, accumulated, context);
+                    @Override
+                    public void onError(String message) {
+                        if (session.isCancelled())
+                            return;
+                        executor.execute(() -> {
+                            Log.e(TAG, "Queued task failed (" + task.url + "): " + message);
+                            onQueuedTaskFinished(session, remaining, merged);
+                        });
+                    }
                 });
-            }
-        });
+    }
+
+    private void onQueuedTaskFinished(SearchSession session, AtomicInteger remaining, SearchMergeIndex merged) {
+        int left = remaining.decrementAndGet();
+        if (session.isCancelled())
+            return;
+
+        // Current display list: Base + everything merged so far
+        List<SearchResult> deduped = merged.snapshot();
+
+        if (left <= 0) {
+            // All done - publish final results
+            publish(session, SearchState.complete(session.query, deduped));
+            saveToCache(session, deduped);
+            prefetchNextPages(session);
+        } else {
+            publish(session, SearchState.partial(session.query, deduped, left));
+        }
     }
 
     /**
@@ -398,103 +888,312 @@ public class UnifiedSearchService {
      * Now uses parseSearchResultsWithPagination to extract and queue next page
      * URLs.
      */
-    private List<SearchResult> parseResults(ServerEntity server, String html, MetadataContext context) {
-        List<SearchResult> results = new ArrayList<>();
-
+    private List<SearchResult> parseResults(SearchSession session, ServerEntity server, String html) {
         try {
-            BaseHtmlParser parser = ParserFactory.getParser(server.getName(), html, server.getBaseUrl());
+            return collectResults(session, server, parsePage(server, html));
+        } catch (Exception e) {
+            Log.e(TAG, "Parse error for " + server.getName() + ": " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-            // Use pagination-aware parsing
-            BaseHtmlParser.ParsedSearchResult parsedResult = parser.parseSearchResultsWithPagination();
-            List<BaseHtmlParser.ParsedItem> items = parsedResult.items;
+    /**
+     * Parse one search page. No side effects besides the PARSE latency
+     * sample, so it can run ahead of time (prefetch).
+     */
+    private BaseHtmlParser.ParsedSearchResult parsePage(ServerEntity server, String html) {
+        long parseStartedAt = android.os.SystemClock.elapsedRealtime();
+        BaseHtmlParser parser = ParserFactory.getParser(server.getName(), html, server.getBaseUrl());
+
+        // Use pagination-aware parsing
+        BaseHtmlParser.ParsedSearchResult parsedResult = parser.parseSearchResultsWithPagination();
+        scraperManager.recordLatency(server, LatencyStats.Phase.PARSE,
+                android.os.SystemClock.elapsedRealtime() - parseStartedAt);
+        return parsedResult;
+    }
 
-            // Queue next page URL if available
-            if (parsedResult.hasNextPage()) {
-                synchronized (paginationQueue) {
-                    paginationQueue.add(new SearchTask(server, parsedResult.nextPageUrl));
+    /**
+     * Turn a parsed page into session results: queue its next page, enrich
+     * items with the metadata context and hand them to the write-behind sync.
+     */
+    private List<SearchResult> collectResults(SearchSession session, ServerEntity server,
+            BaseHtmlParser.ParsedSearchResult parsedResult) {
+        List<SearchResult> results = new ArrayList<>();
+        MetadataContext context = session.context;
+        List<BaseHtmlParser.ParsedItem> items = parsedResult.items;
+
+        // Queue next page URL if available
+        if (parsedResult.hasNextPage()) {
+            synchronized (session.paginationQueue) {
+                if (!containsTask(session.paginationQueue, server, parsedResult.nextPageUrl)) {
+                    session.paginationQueue.add(new SearchTask(server, parsedResult.nextPageUrl));
                     Log.d(TAG, "Queued next page for " + server.getName() + ": " + parsedResult.nextPageUrl);
                 }
             }
+        }
 
-            // Enrich items with context if available
-            if (context != null) {
-                for (BaseHtmlParser.ParsedItem item : items) {
-                    if (context.description != null)
-                        item.setDescription(context.description);
-                    if (context.rating != null)
-                        item.setRating(context.rating);
-                    if (context.year != null)
-                        item.setYear(context.year);
-                    if (context.trailerUrl != null)
-                        item.setTrailerUrl(context.trailerUrl);
-                    if (context.categories != null && !context.categories.isEmpty())
-                        item.setCategories(context.categories);
-                    if (context.tmdbId != null)
-                        item.setTmdbId(context.tmdbId);
-                }
+        // Enrich items with context if available
+        if (context != null) {
+            for (BaseHtmlParser.ParsedItem item : items) {
+                if (context.description != null)
+                    item.setDescription(context.description);
+                if (context.rating != null)
+                    item.setRating(context.rating);
+                if (context.year != null)
+                    item.setYear(context.year);
+                if (context.trailerUrl != null)
+                    item.setTrailerUrl(context.trailerUrl);
+                if (context.categories != null && !context.categories.isEmpty())
+                    item.setCategories(context.categories);
+                if (context.tmdbId != null)
+                    item.setTmdbId(context.tmdbId);
             }
+        }
 
-            // AGGRESSIVE SYNC: Save all items to DB immediately and link to watch progress
-            mediaRepository.syncSearchResults(items, server.getId());
+        for (BaseHtmlParser.ParsedItem item : items) {
+            results.add(toSearchResult(server, item));
+        }
 
-            for (BaseHtmlParser.ParsedItem item : items) {
-                SearchResult result = new SearchResult();
-                result.title = item.getTitle();
-                result.posterUrl = item.getPosterUrl();
-                result.pageUrl = item.getPageUrl();
-                result.type = item.getType() != null ? item.getType().name() : "FILM";
-                result.year = item.getYear();
-                result.matchKey = item.getMatchKey();
-                result.serverId = server.getId();
-                result.serverName = server.getName();
-                result.serverLabel = server.getLabel();
-                result.categories = item.getCategories();
-                result.mediaId = item.getMediaId(); // Propagate Media ID
-                results.add(result);
-            }
+        // WRITE-BEHIND SYNC: persist and link watch progress off the critical path;
+        // media ids reach the live list through onResultsPersisted
+        writeBehind.enqueue(server.getId(), items, session.persistListener);
 
-            Log.d(TAG, "Parsed " + results.size() + " results from " + server.getName() +
-                    (parsedResult.hasNextPage() ? " (has more pages)" : " (last page)"));
+        Log.d(TAG, "Parsed " + results.size() + " results from " + server.getName() +
+                (parsedResult.hasNextPage() ? " (has more pages)" : " (last page)"));
+        return results;
+    }
 
-        } catch (Exception e) {
-            Log.e(TAG, "Parse error for " + server.getName() + ": " + e.getMessage());
+    // ==================== NEXT PAGE PREFETCH ====================
+
+    /**
+     * Speculatively fetch and parse the queued next pages while the user looks
+     * at the current ones, so "Load More" answers from memory.
+     *
+     * Flow:
+     * 1. Runs whenever a round of results is final (fast phase, fresh cache,
+     * "Load More")
+     * 2. Takes up to PREFETCH_PAGES_PER_ROUND cursors, in the session's dispatch
+     * (health) order, within the session's PREFETCH_PAGES_PER_SESSION budget
+     * 3. Fetches on the BACKGROUND lane without WebView fallback and parses
+     * without side effects; the page is applied only if "Load More" asks for it
+     * 4. The session token aborts everything when the query changes
+     */
+    private void prefetchNextPages(SearchSession session) {
+        if (session.isCancelled() || session.prefetchBudget.get() <= 0)
+            return;
+
+        List<SearchTask> candidates;
+        synchronized (session.paginationQueue) {
+            candidates = new ArrayList<>(session.paginationQueue);
+        }
+        // Health order of this search; servers it skipped (open circuit) go last
+        Map<Long, Integer> rank = new HashMap<>();
+        List<ServerEntity> servers = session.dispatched;
+        for (int i = 0; i < servers.size(); i++) {
+            rank.put(servers.get(i).getId(), i);
         }
+        java.util.Collections.sort(candidates, (a, b) -> Integer.compare(
+                rank.containsKey(a.server.getId()) ? rank.get(a.server.getId()) : Integer.MAX_VALUE,
+                rank.containsKey(b.server.getId()) ? rank.get(b.server.getId()) : Integer.MAX_VALUE));
+
+        int started = 0;
+        for (SearchTask task : candidates) {
+            if (started >= PREFETCH_PAGES_PER_ROUND)
+                break;
+            String key = taskKey(task);
+            if (session.prefetched.containsKey(key))
+                continue;
+            if (session.prefetchBudget.getAndDecrement() <= 0)
+                break;
+
+            PrefetchedPage page = new PrefetchedPage();
+            session.prefetched.put(key, page);
+            started++;
+            Log.d(TAG, "Prefetching next page of " + task.server.getName() + ": " + task.url);
+
+            scraperManager.loadHybrid(task.server, task.url, null, false, null,
+                    com.omarflex5.data.network.HttpEngine.Priority.BACKGROUND,
+                    com.omarflex5.data.scraper.PageCache.PageType.SEARCH, session.token,
+                    new WebViewScraperManager.ScraperCallback() {
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies) {
+                            executor.execute(() -> {
+                                if (session.isCancelled()) {
+                                    page.complete(null);
+                                    return;
+                                }
+                                try {
+                                    page.complete(parsePage(task.server, html));
+                                } catch (Exception e) {
+                                    Log.e(TAG, "Prefetch parse error for " + task.server.getName(), e);
+                                    page.complete(null);
+                                }
+                            });
+                        }
 
-        return results;
+                        @Override
+                        public void onError(String message) {
+                            Log.d(TAG, "Prefetch failed (" + message + "): " + task.url);
+                            page.complete(null);
+                        }
+                    });
+        }
+    }
+
+    private static SearchResult toSearchResult(ServerEntity server, BaseHtmlParser.ParsedItem item) {
+        SearchResult result = new SearchResult();
+        result.title = item.getTitle();
+        result.posterUrl = item.getPosterUrl();
+        result.pageUrl = item.getPageUrl();
+        result.type = item.getType() != null ? item.getType().name() : "FILM";
+        result.year = item.getYear();
+        result.matchKey = item.getMatchKey();
+        result.serverId = server.getId();
+        result.serverName = server.getName();
+        result.serverLabel = server.getLabel();
+        result.categories = item.getCategories();
+        return result;
+    }
+
+    // ==================== BACKGROUND CF RETRY ====================
+
+    public interface RetryCallback {
+        void onComplete(int resultCount);
+
+        void onError(String message);
     }
 
     /**
-     * Deduplicate results by match key.
-     * Keeps the first occurrence (from higher priority server).
+     * Pending CF retries, oldest first. Hits the database, call off the main
+     * thread.
      */
-    private List<SearchResult> deduplicateResults(List<SearchResult> results) {
-        Map<String, SearchResult> seen = new HashMap<>();
-        List<SearchResult> deduped = new ArrayList<>();
-
-        for (SearchResult result : results) {
-            String key = result.matchKey;
-            if (key == null || key.isEmpty()) {
-                // No key - can't dedupe, include as-is
-                deduped.add(result);
-            } else if (!seen.containsKey(key)) {
-                seen.put(key, result);
-                deduped.add(result);
-            } else {
-                // Duplicate - add as alternative source
-                SearchResult existing = seen.get(key);
-                if (existing.alternativeSources == null) {
-                    existing.alternativeSources = new ArrayList<>();
-                }
-                existing.alternativeSources.add(new SourceInfo(
-                        result.serverId, result.serverName, result.serverLabel, result.pageUrl));
+    public List<SearchQueueEntity> getPendingRetries() {
+        return resultCache.pendingRetries();
+    }
+
+    /**
+     * Give up on a retry whose query has aged out of the cache.
+     */
+    public void expireRetry(SearchQueueEntity item) {
+        resultCache.markRetryFailed(item, "Expired");
+    }
+
+    /**
+     * Retry one persisted CF search outside any session (SearchRetryWorker).
+     *
+     * Flow:
+     * 1. Search the URL with WebView fallback
+     * 2. Parse, and persist the items right away so the cached results carry
+     * their media ids
+     * 3. Merge the results (and the next page cursor) into the cached list of
+     * the row's query, under the same server set a new search would use
+     * 4. Mark the row DONE, or FAILED on error. A cancelled retry stays
+     * IN_PROGRESS and is pending again on the next run; one whose CF wait
+     * timed out goes back to PENDING
+     */
+    public void retryQueued(SearchQueueEntity item, CancellationToken token, RetryCallback callback) {
+        executor.execute(() -> {
+            ServerEntity server = null;
+            List<ServerEntity> servers = new ArrayList<>();
+            for (ServerEntity candidate : serverDao.getSearchableByPriority()) {
+                if (!candidate.isEnabled())
+                    continue;
+                servers.add(candidate);
+                if (candidate.getId() == item.getServerId())
+                    server = candidate;
+            }
+            if (server == null) {
+                resultCache.markRetryFailed(item, "Server not available");
+                callback.onError("Server not available");
+                return;
             }
+
+            resultCache.markRetryInProgress(item);
+            ServerEntity target = server;
+            scraperManager.search(target, item.getUrl(), true, null, token,
+                    new WebViewScraperManager.ScraperCallback() {
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies) {
+                            onSuccess(html, cookies, WebViewScraperManager.Origin.NETWORK);
+                        }
+
+                        @Override
+                        public void onSuccess(String html, Map<String, String> cookies,
+                                WebViewScraperManager.Origin origin) {
+                            if (origin == WebViewScraperManager.Origin.WEBVIEW_TIMEOUT) {
+                                // Unsolved challenge page: not a result, leave the row for the next run
+                                executor.execute(() -> {
+                                    resultCache.markRetryPending(item);
+                                    callback.onError("Challenge not solved");
+                                });
+                                return;
+                            }
+                            executor.execute(() -> {
+                                try {
+                                    int count = mergeRetryResults(item, target, servers, html);
+                                    resultCache.markRetryDone(item.getQuery(), target.getId(), item.getUrl(), count);
+                                    callback.onComplete(count);
+                                } catch (Exception e) {
+                                    Log.e(TAG, "Background retry parse failed for " + target.getName(), e);
+                                    resultCache.markRetryFailed(item, e.getMessage());
+                                    callback.onError(e.getMessage());
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void onError(String message) {
+                            executor.execute(() -> {
+                                if (!token.isCancelled())
+                                    resultCache.markRetryFailed(item, message);
+                                callback.onError(message);
+                            });
+                        }
+                    });
+        });
+    }
+
+    private int mergeRetryResults(SearchQueueEntity item, ServerEntity server, List<ServerEntity> servers,
+            String html) {
+        BaseHtmlParser parser = ParserFactory.getParser(server.getName(), html, server.getBaseUrl());
+        BaseHtmlParser.ParsedSearchResult parsed = parser.parseSearchResultsWithPagination();
+
+        // Nobody is waiting on this list, so sync inline instead of write-behind
+        mediaRepository.syncSearchResults(parsed.items, server.getId());
+
+        List<SearchResult> results = new ArrayList<>();
+        for (BaseHtmlParser.ParsedItem parsedItem : parsed.items) {
+            SearchResult result = toSearchResult(server, parsedItem);
+            if (parsedItem.getMediaId() > 0) {
+                result.mediaId = parsedItem.getMediaId();
+                result.watchProgress = parsedItem.getWatchProgress();
+                result.duration = parsedItem.getDuration();
+                result.watched = parsedItem.isWatched();
+            }
+            results.add(result);
         }
 
-        return deduped;
+        resultCache.merge(item.getQuery(), servers, results,
+                parsed.hasNextPage() ? SearchResultCache.cursor(server.getId(), parsed.nextPageUrl) : null);
+        Log.d(TAG, "Background retry merged " + results.size() + " results from " + server.getName()
+                + " into '" + item.getQuery() + "'");
+        return results.size();
     }
 
-    private List<SearchResult> getCurrentResults() {
-        SearchState state = searchState.getValue();
+    // A cursor restored from cache may already point at the same next page
+    private static boolean containsTask(List<SearchTask> tasks, ServerEntity server, String url) {
+        for (SearchTask task : tasks) {
+            if (task.server.getId() == server.getId() && task.url.equals(url))
+                return true;
+        }
+        return false;
+    }
+
+    private List<SearchResult> getCurrentResults(SearchSession session) {
+        SearchState state;
+        synchronized (sessionLock) {
+            state = session.lastPublished;
+        }
         if (state != null && state.results != null) {
             return new ArrayList<>(state.results);
         }
@@ -512,8 +1211,15 @@ public class UnifiedSearchService {
      * Clear search.
      */
     public void clearSearch() {
-        currentQuery = null;
-        searchState.postValue(SearchState.idle());
+        SearchSession previous;
+        synchronized (sessionLock) {
+            previous = currentSession;
+            currentSession = null;
+            searchState.postValue(SearchState.idle());
+        }
+        if (previous != null) {
+            previous.token.cancel();
+        }
     }
 
     // ==================== STATE & RESULT CLASSES ====================
@@ -546,6 +1252,13 @@ public class UnifiedSearchService {
             return new SearchState(Status.LOADING, query, new ArrayList<>(), 0, null);
         }
 
+        /**
+         * Still searching, but some servers have already answered.
+         */
+        public static SearchState loading(String query, List<SearchResult> results, int pending) {
+            return new SearchState(Status.LOADING, query, results, pending, null);
+        }
+
         public static SearchState partial(String query, List<SearchResult> results, int pending) {
             return new SearchState(Status.PARTIAL, query, results, pending, null);
         }
@@ -561,34 +1274,9 @@ public class UnifiedSearchService {
         public static SearchState error(String query, String message) {
             return new SearchState(Status.ERROR, query, new ArrayList<>(), 0, message);
         }
-    }
-
-    public static class SearchResult {
-        public String title;
-        public String posterUrl;
-        public String pageUrl;
-        public String type;
-        public Integer year;
-        public String matchKey;
-        public long serverId;
-        public String serverName;
-        public String serverLabel;
-        public List<String> categories;
-        public List<SourceInfo> alternativeSources;
-        public long mediaId = -1;
-    }
-
-    public static class SourceInfo {
-        public final long serverId;
-        public final String serverName;
-        public final String serverLabel;
-        public final String pageUrl;
 
-        public SourceInfo(long serverId, String serverName, String serverLabel, String pageUrl) {
-            this.serverId = serverId;
-            this.serverName = serverName;
-            this.serverLabel = serverLabel;
-            this.pageUrl = pageUrl;
+        SearchState withResults(List<SearchResult> results) {
+            return new SearchState(status, query, results, pendingServers, errorMessage);
         }
     }
 
@@ -2,14 +2,9 @@ package com.omarflex5.data.source.remote;
 
 import android.util.Log;
 
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
-import java.util.concurrent.TimeUnit;
+import com.omarflex5.data.network.HttpEngine;
 
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import java.util.concurrent.TimeUnit;
 
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
@@ -29,7 +24,12 @@ public class BaseServer {
             HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
             logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
 
-            OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder()
+            // For debug builds on emulator with outdated certs, bypass SSL verification
+            // WARNING: This should NEVER be used in production!
+            // Derived from the shared engine: TMDB connections live in its pool and
+            // are shared with the other trust-all clients, not the validating ones.
+            OkHttpClient.Builder clientBuilder = HttpEngine.getInstance()
+                    .newUnsafeBuilder(HttpEngine.Priority.USER)
                     .connectTimeout(30, TimeUnit.SECONDS)
                     .readTimeout(30, TimeUnit.SECONDS)
                     .writeTimeout(30, TimeUnit.SECONDS)
@@ -53,43 +53,7 @@ public class BaseServer {
                         return chain.proceed(request);
                     });
 
-            // For debug builds on emulator with outdated certs, bypass SSL verification
-            // WARNING: This should NEVER be used in production!
-            try {
-                // Create a trust manager that accepts all certificates
-                final TrustManager[] trustAllCerts = new TrustManager[] {
-                        new X509TrustManager() {
-                            @Override
-                            public void checkClientTrusted(X509Certificate[] chain, String authType)
-                                    throws CertificateException {
-                            }
-
-                            @Override
-                            public void checkServerTrusted(X509Certificate[] chain, String authType)
-                                    throws CertificateException {
-                            }
-
-                            @Override
-                            public X509Certificate[] getAcceptedIssuers() {
-                                return new X509Certificate[] {};
-                            }
-                        }
-                };
-
-                // Install the trust manager
-                final SSLContext sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-                // Create SSL socket factory
-                final SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
-                clientBuilder.sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0]);
-                clientBuilder.hostnameVerifier((hostname, session) -> true);
-
-                Log.w(TAG, "SSL verification disabled for debug build - DO NOT use in production!");
-            } catch (Exception e) {
-                Log.e(TAG, "Error setting up SSL bypass: " + e.getMessage());
-            }
+            Log.w(TAG, "SSL verification disabled for debug build - DO NOT use in production!");
 
             OkHttpClient client = clientBuilder.build();
 
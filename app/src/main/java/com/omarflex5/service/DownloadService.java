@@ -45,7 +45,11 @@ public class DownloadService extends Service {
     public void onCreate() {
         super.onCreate();
         executorService = Executors.newSingleThreadExecutor();
-        client = new OkHttpClient();
+        // Background lane of the shared engine; long read timeout for large APKs
+        client = com.omarflex5.data.network.HttpEngine.getInstance()
+                .newBuilder(com.omarflex5.data.network.HttpEngine.Priority.BACKGROUND)
+                .readTimeout(60, java.util.concurrent.TimeUnit.SECONDS)
+                .build();
         createNotificationChannel();
     }
 
@@ -81,6 +81,7 @@ public class BrowserActivity extends com.omarflex5.ui.base.BaseActivity {
 
     // Views
     private WebView webView;
+    private com.omarflex5.data.scraper.WebViewPool.Lease webViewLease;
     private View loadingOverlay;
     private TextView textStatus;
     private TextView textTitle;
@@ -114,11 +115,12 @@ public class BrowserActivity extends com.omarflex5.ui.base.BaseActivity {
 
         initViews();
 
-        // ONE WEBVIEW ARCHITECTURE:
-        // Borrow the persistent WebView from ScraperManager.
+        // POOLED WEBVIEW ARCHITECTURE:
+        // Lease a pooled WebView from ScraperManager.
         com.omarflex5.data.scraper.WebViewScraperManager scraperManager = com.omarflex5.data.scraper.WebViewScraperManager
                 .getInstance(this);
-        webView = scraperManager.borrowWebView();
+        webViewLease = scraperManager.leaseWebView();
+        webView = webViewLease.getWebView();
 
         // Attach to layout
         android.widget.FrameLayout container = findViewById(R.id.webview_container);
@@ -138,7 +140,7 @@ public class BrowserActivity extends com.omarflex5.ui.base.BaseActivity {
     }
 
     private void initViews() {
-        // webView is initialized via borrowWebView()
+        // webView is initialized via leaseWebView()
         loadingOverlay = findViewById(R.id.loading_overlay);
         textStatus = findViewById(R.id.text_status);
         textTitle = findViewById(R.id.text_title);
@@ -285,9 +287,10 @@ public class BrowserActivity extends com.omarflex5.ui.base.BaseActivity {
         if (webView != null) {
             webView.stopLoading();
 
-            // ONE WEBVIEW ARCHITECTURE:
-            // Return to manager instead of destroying
-            com.omarflex5.data.scraper.WebViewScraperManager.getInstance(this).returnWebView(webView);
+            // POOLED WEBVIEW ARCHITECTURE:
+            // Return the lease to the pool instead of destroying
+            com.omarflex5.data.scraper.WebViewScraperManager.getInstance(this).returnWebView(webViewLease);
+            webViewLease = null;
             webView = null;
         }
     }
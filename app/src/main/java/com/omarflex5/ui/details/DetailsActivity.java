@@ -298,7 +298,10 @@ public class DetailsActivity extends com.omarflex5.ui.base.BaseActivity {
 
         showLoading();
         new Thread(() -> {
+            // Detail pages are cached; AJAX (POST) season/episode calls never are
             scraperManager.loadHybrid(currentServer, url, postData, true, this,
+                    com.omarflex5.data.network.HttpEngine.Priority.USER,
+                    com.omarflex5.data.scraper.PageCache.PageType.DETAIL,
                     new WebViewScraperManager.ScraperCallback() {
                         @Override
                         public void onSuccess(String html, Map<String, String> cookies) {
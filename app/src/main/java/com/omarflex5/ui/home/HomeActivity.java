@@ -31,7 +31,9 @@ import com.bumptech.glide.Glide;
 import com.omarflex5.R;
 import com.omarflex5.data.model.Category;
 import com.omarflex5.data.model.Movie;
+import com.omarflex5.data.model.MovieActionType;
 import com.omarflex5.data.repository.MovieRepository;
+import com.omarflex5.data.scraper.DetailPrefetcher;
 import com.omarflex5.ui.controller.DefaultMovieClickController;
 import com.omarflex5.ui.controller.MovieClickController;
 import com.omarflex5.ui.home.adapter.CategoryAdapter;
@@ -393,6 +395,11 @@ public class HomeActivity extends com.omarflex5.ui.base.BaseActivity {
                 intent.putExtra(com.omarflex5.ui.search.SearchActivity.EXTRA_QUERY, query);
                 startActivity(intent);
             }
+
+            @Override
+            public void onSearchTextChanged(String text) {
+                viewModel.searchLocal(text);
+            }
         });
         recyclerCategories.setAdapter(categoryAdapter);
 
@@ -416,6 +423,15 @@ public class HomeActivity extends com.omarflex5.ui.base.BaseActivity {
                 // This is called on second click (when already selected)
                 clickController.handleClick(HomeActivity.this, movie);
             }
+
+            @Override
+            public void onMovieFocusChanged(Movie movie, boolean hasFocus) {
+                // Warm the detail page of a card the user lingers on
+                if (opensDetailsPage(movie)) {
+                    DetailPrefetcher.getInstance(HomeActivity.this).onFocusChanged(movie.getServerId(),
+                            movie.getVideoUrl(), hasFocus);
+                }
+            }
         });
         recyclerMovies.setAdapter(movieCardAdapter);
 
@@ -1065,10 +1081,25 @@ public class HomeActivity extends com.omarflex5.ui.base.BaseActivity {
         }
     }
 
+    /**
+     * Whether a click ends up in DetailsActivity with the card's server page
+     * (see DefaultMovieClickController): TMDB items go to search and
+     * EXOPLAYER items with a URL play directly.
+     */
+    private static boolean opensDetailsPage(Movie movie) {
+        if (movie == null || "TMDB".equalsIgnoreCase(movie.getSourceName()))
+            return false;
+        if (movie.getServerId() == null || movie.getVideoUrl() == null || movie.getVideoUrl().isEmpty())
+            return false;
+        MovieActionType actionType = movie.getActionType();
+        return actionType == null || actionType == MovieActionType.DETAILS;
+    }
+
     @Override
     protected void onStop() {
         super.onStop();
         releasePlayer();
+        DetailPrefetcher.getInstance(this).cancelPending();
     }
 
     @Override
@@ -33,6 +33,8 @@ public class HomeViewModel extends AndroidViewModel {
     private final MutableLiveData<UiState> uiState = new MutableLiveData<>(UiState.loading());
     private boolean isInitialLoad = true;
     private final MutableLiveData<Integer> currentPageSize = new MutableLiveData<>(30);
+    private final MutableLiveData<String> localQuery = new MutableLiveData<>("");
+    private static final int LOCAL_SEARCH_LIMIT = 30;
 
     // Predefined major genres matching TmdbMapper.GENRE_MAP
     private static final java.util.List<String> PREDEFINED_GENRES = java.util.Arrays.asList(
@@ -71,7 +73,8 @@ public class HomeViewModel extends AndroidViewModel {
         allServers = serverRepo.getAllServersLive();
 
         // Observe Local DB with Pagination using SwitchMap
-        allMedia = androidx.lifecycle.Transformations.switchMap(selectedCategoryTrigger, id -> {
+        LiveData<List<com.omarflex5.data.local.model.MediaWithUserState>> categoryMedia = androidx.lifecycle.Transformations
+                .switchMap(selectedCategoryTrigger, id -> {
             Integer pageSize = categoryPageSizes.get(id);
             if (pageSize == null)
                 pageSize = 30;
@@ -87,6 +90,10 @@ public class HomeViewModel extends AndroidViewModel {
             }
         });
 
+        // While the search bar has text, show local title matches instead
+        allMedia = androidx.lifecycle.Transformations.switchMap(localQuery,
+                q -> q.isEmpty() ? categoryMedia : repository.searchLocal(q, LOCAL_SEARCH_LIMIT));
+
         // Mediator to combine Media and Servers
         // We need servers loaded to correctly map the source labels
         androidx.lifecycle.MediatorLiveData<List<com.omarflex5.data.local.model.MediaWithUserState>> combinedData = new androidx.lifecycle.MediatorLiveData<>();
@@ -376,6 +383,16 @@ public class HomeViewModel extends AndroidViewModel {
         selectedCategoryTrigger.setValue(selectedGenre);
     }
 
+    /**
+     * Per-keystroke local search; an empty query restores the selected category.
+     */
+    public void searchLocal(String query) {
+        String q = query != null ? query.trim() : "";
+        if (!q.equals(localQuery.getValue())) {
+            localQuery.setValue(q);
+        }
+    }
+
     // Called by UI
     public void selectMovie(Movie movie) {
         selectedMovie.setValue(movie);
@@ -42,6 +42,10 @@ public class CategoryAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
         void onCategorySelected(Category category);
 
         void onSearchSubmitted(String query);
+
+        // Called on every keystroke for instant local matches
+        default void onSearchTextChanged(String text) {
+        }
     }
 
     public void setCategories(List<Category> categories) {
@@ -155,6 +159,24 @@ public class CategoryAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
                 }
             });
 
+            // Instant local matches while typing
+            searchInput.addTextChangedListener(new android.text.TextWatcher() {
+                @Override
+                public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                }
+
+                @Override
+                public void onTextChanged(CharSequence s, int start, int before, int count) {
+                }
+
+                @Override
+                public void afterTextChanged(android.text.Editable s) {
+                    if (listener != null) {
+                        listener.onSearchTextChanged(s.toString());
+                    }
+                }
+            });
+
             // Handle Search Submission
             searchInput.setOnEditorActionListener((v, actionId, event) -> {
                 if (actionId == EditorInfo.IME_ACTION_SEARCH ||
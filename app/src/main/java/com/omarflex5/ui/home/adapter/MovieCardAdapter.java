@@ -47,6 +47,8 @@ public class MovieCardAdapter extends RecyclerView.Adapter<RecyclerView.ViewHold
         void onMovieSelected(Movie movie);
 
         void onMovieClicked(Movie movie);
+
+        void onMovieFocusChanged(Movie movie, boolean hasFocus);
     }
 
     public interface OnLoadMoreListener {
@@ -293,6 +295,11 @@ public class MovieCardAdapter extends RecyclerView.Adapter<RecyclerView.ViewHold
                             .start();
                     cardView.setCardElevation(4f);
                 }
+
+                int position = getAdapterPosition();
+                if (position != RecyclerView.NO_POSITION && listener != null) {
+                    listener.onMovieFocusChanged(movies.get(position), hasFocus);
+                }
             });
 
             // Click - first click selects, second click (when already selected) executes
@@ -837,56 +837,28 @@ public class PlayerActivity extends com.omarflex5.ui.base.BaseActivity {
     }
 
     private okhttp3.OkHttpClient getUnsafeOkHttpClient() {
-        try {
-            // Create a trust manager that does not validate certificate chains
-            final javax.net.ssl.TrustManager[] trustAllCerts = new javax.net.ssl.TrustManager[] {
-                    new javax.net.ssl.X509TrustManager() {
-                        @Override
-                        public void checkClientTrusted(java.security.cert.X509Certificate[] chain, String authType)
-                                throws java.security.cert.CertificateException {
-                        }
-
-                        @Override
-                        public void checkServerTrusted(java.security.cert.X509Certificate[] chain, String authType)
-                                throws java.security.cert.CertificateException {
-                        }
-
-                        @Override
-                        public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-                            return new java.security.cert.X509Certificate[] {};
-                        }
-                    }
-            };
-
-            // Install the all-trusting trust manager
-            final javax.net.ssl.SSLContext sslContext = javax.net.ssl.SSLContext.getInstance("SSL");
-            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-
-            // Create an ssl socket factory with our all-trusting manager
-            final javax.net.ssl.SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
-            okhttp3.OkHttpClient.Builder builder = new okhttp3.OkHttpClient.Builder();
-            builder.sslSocketFactory(sslSocketFactory, (javax.net.ssl.X509TrustManager) trustAllCerts[0]);
-            builder.hostnameVerifier((hostname, session) -> true);
-
-            // Allow Cleartext traffic (HTTP)
-            builder.connectionSpecs(java.util.Arrays.asList(
-                    okhttp3.ConnectionSpec.MODERN_TLS,
-                    okhttp3.ConnectionSpec.COMPATIBLE_TLS,
-                    okhttp3.ConnectionSpec.CLEARTEXT));
-
-            builder.followRedirects(true);
-            builder.followSslRedirects(true);
-
-            // OPTIMIZATION: Extended Timeouts
-            builder.connectTimeout(30, java.util.concurrent.TimeUnit.SECONDS);
-            builder.readTimeout(60, java.util.concurrent.TimeUnit.SECONDS);
-            builder.writeTimeout(60, java.util.concurrent.TimeUnit.SECONDS);
-
-            return builder.build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        // Trust-all client derived from the shared engine: same pool and
+        // dispatcher, and the engine's single trust-all SSL setup, so repeated
+        // playback of a host reuses its connections (scraper connections
+        // validate certificates and are kept apart)
+        okhttp3.OkHttpClient.Builder builder = com.omarflex5.data.network.HttpEngine.getInstance()
+                .newUnsafeBuilder(com.omarflex5.data.network.HttpEngine.Priority.USER);
+
+        // Allow Cleartext traffic (HTTP)
+        builder.connectionSpecs(java.util.Arrays.asList(
+                okhttp3.ConnectionSpec.MODERN_TLS,
+                okhttp3.ConnectionSpec.COMPATIBLE_TLS,
+                okhttp3.ConnectionSpec.CLEARTEXT));
+
+        builder.followRedirects(true);
+        builder.followSslRedirects(true);
+
+        // OPTIMIZATION: Extended Timeouts
+        builder.connectTimeout(30, java.util.concurrent.TimeUnit.SECONDS);
+        builder.readTimeout(60, java.util.concurrent.TimeUnit.SECONDS);
+        builder.writeTimeout(60, java.util.concurrent.TimeUnit.SECONDS);
+
+        return builder.build();
     }
 
     @Override
@@ -15,6 +15,7 @@ import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.omarflex5.R;
+import com.omarflex5.data.scraper.DetailPrefetcher;
 import com.omarflex5.ui.details.DetailsActivity;
 
 /**
@@ -48,6 +49,7 @@ public class SearchActivity extends com.omarflex5.ui.base.BaseActivity {
     private TextView textTitle;
     private Button btnLoadMore;
     private View emptyView;
+    private com.omarflex5.data.search.UnifiedSearchService.SearchState.Status lastStatus;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -130,12 +132,22 @@ public class SearchActivity extends com.omarflex5.ui.base.BaseActivity {
                     null, null);
         });
 
+        // Warm the detail page of a result the user lingers on
+        adapter.setOnResultFocusListener((result, hasFocus) -> DetailPrefetcher.getInstance(this)
+                .onFocusChanged(result.serverId, result.pageUrl, hasFocus));
+
         int spanCount = getResources()
                 .getConfiguration().orientation == android.content.res.Configuration.ORIENTATION_LANDSCAPE ? 4 : 2;
         recyclerResults.setLayoutManager(new GridLayoutManager(this, spanCount));
         recyclerResults.setAdapter(adapter);
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        DetailPrefetcher.getInstance(this).cancelPending();
+    }
+
     @Override
     public void onBackPressed() {
         viewModel.clearSearch();
@@ -229,6 +241,10 @@ public class SearchActivity extends com.omarflex5.ui.base.BaseActivity {
                     textStatus.setVisibility(View.VISIBLE);
                     btnLoadMore.setVisibility(View.GONE);
                     emptyView.setVisibility(View.GONE);
+                    // Streamed results from servers that already answered
+                    if (!state.results.isEmpty()) {
+                        adapter.setResults(state.results);
+                    }
                     break;
 
                 case LOADING_MORE:
@@ -265,7 +281,11 @@ public class SearchActivity extends com.omarflex5.ui.base.BaseActivity {
                     if (viewModel.hasPendingTasks()) {
                         btnLoadMore.setText("تحميل المزيد ›");
                         btnLoadMore.setVisibility(View.VISIBLE);
-                        btnLoadMore.requestFocus(); // Auto-focus for TV remote
+                        // Auto-focus for TV remote, but not again when the same list is
+                        // re-published with media ids filled in
+                        if (lastStatus != state.status) {
+                            btnLoadMore.requestFocus();
+                        }
                     } else {
                         btnLoadMore.setVisibility(View.GONE);
                     }
@@ -287,6 +307,7 @@ public class SearchActivity extends com.omarflex5.ui.base.BaseActivity {
                     textStatus.setVisibility(View.VISIBLE);
                     break;
             }
+            lastStatus = state.status;
         });
     }
 }
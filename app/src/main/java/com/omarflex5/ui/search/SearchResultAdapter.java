@@ -12,7 +12,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.bumptech.glide.Glide;
 import com.omarflex5.R;
-import com.omarflex5.data.search.UnifiedSearchService;
+import com.omarflex5.data.search.SearchResult;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,20 +22,69 @@ import java.util.List;
  */
 public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapter.ResultViewHolder> {
 
-    private List<UnifiedSearchService.SearchResult> results = new ArrayList<>();
+    private List<SearchResult> results = new ArrayList<>();
     private OnResultClickListener listener;
+    private OnResultFocusListener focusListener;
 
     public interface OnResultClickListener {
-        void onResultClick(UnifiedSearchService.SearchResult result);
+        void onResultClick(SearchResult result);
+    }
+
+    public interface OnResultFocusListener {
+        void onResultFocusChanged(SearchResult result, boolean hasFocus);
     }
 
     public void setOnResultClickListener(OnResultClickListener listener) {
         this.listener = listener;
     }
 
-    public void setResults(List<UnifiedSearchService.SearchResult> results) {
-        this.results = results != null ? results : new ArrayList<>();
-        notifyDataSetChanged();
+    public void setOnResultFocusListener(OnResultFocusListener focusListener) {
+        this.focusListener = focusListener;
+    }
+
+    public void setResults(List<SearchResult> results) {
+        List<SearchResult> newResults = results != null ? results : new ArrayList<>();
+        List<SearchResult> oldResults = this.results;
+
+        // Diff instead of a full refresh: results stream in while the user is
+        // already navigating, and a full rebind would drop D-pad focus
+        androidx.recyclerview.widget.DiffUtil.DiffResult diff = androidx.recyclerview.widget.DiffUtil
+                .calculateDiff(new androidx.recyclerview.widget.DiffUtil.Callback() {
+                    @Override
+                    public int getOldListSize() {
+                        return oldResults.size();
+                    }
+
+                    @Override
+                    public int getNewListSize() {
+                        return newResults.size();
+                    }
+
+                    @Override
+                    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                        SearchResult oldItem = oldResults.get(oldItemPosition);
+                        SearchResult newItem = newResults.get(newItemPosition);
+                        return oldItem.serverId == newItem.serverId
+                                && java.util.Objects.equals(oldItem.pageUrl, newItem.pageUrl);
+                    }
+
+                    @Override
+                    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                        SearchResult oldItem = oldResults.get(oldItemPosition);
+                        SearchResult newItem = newResults.get(newItemPosition);
+                        int oldAlternatives = oldItem.alternativeSources != null ? oldItem.alternativeSources.size() : 0;
+                        int newAlternatives = newItem.alternativeSources != null ? newItem.alternativeSources.size() : 0;
+                        return java.util.Objects.equals(oldItem.title, newItem.title)
+                                && java.util.Objects.equals(oldItem.posterUrl, newItem.posterUrl)
+                                && oldAlternatives == newAlternatives
+                                && oldItem.mediaId == newItem.mediaId
+                                && oldItem.watchProgress == newItem.watchProgress
+                                && oldItem.watched == newItem.watched;
+                    }
+                });
+
+        this.results = newResults;
+        diff.dispatchUpdatesTo(this);
     }
 
     @NonNull
@@ -48,7 +97,7 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
 
     @Override
     public void onBindViewHolder(@NonNull ResultViewHolder holder, int position) {
-        UnifiedSearchService.SearchResult result = results.get(position);
+        SearchResult result = results.get(position);
         holder.bind(result);
     }
 
@@ -64,6 +113,7 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
         private final TextView ratingText;
         private final android.widget.LinearLayout categoriesLayout;
         private final TextView serverBadge;
+        private final android.widget.ProgressBar watchProgress;
 
         ResultViewHolder(@NonNull View itemView) {
             super(itemView);
@@ -73,6 +123,7 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
             ratingText = itemView.findViewById(R.id.text_rating);
             categoriesLayout = itemView.findViewById(R.id.layout_categories_badge);
             serverBadge = itemView.findViewById(R.id.text_server_badge);
+            watchProgress = itemView.findViewById(R.id.progress_watch);
 
             itemView.setOnClickListener(v -> {
                 int pos = getAdapterPosition();
@@ -98,10 +149,15 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
                             .start();
                     v.setElevation(4f);
                 }
+
+                int pos = getAdapterPosition();
+                if (pos != RecyclerView.NO_POSITION && focusListener != null) {
+                    focusListener.onResultFocusChanged(results.get(pos), hasFocus);
+                }
             });
         }
 
-        void bind(UnifiedSearchService.SearchResult result) {
+        void bind(SearchResult result) {
             // Title
             title.setText(result.title);
 
@@ -180,6 +236,17 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
                 serverBadge.setVisibility(View.GONE);
             }
 
+            // Watch progress (known once the result is linked to local history)
+            if (watchProgress != null) {
+                if (result.duration > 0 && result.watchProgress > 0) {
+                    int percent = (int) ((result.watchProgress * 100) / result.duration);
+                    watchProgress.setProgress(Math.max(1, Math.min(100, percent)));
+                    watchProgress.setVisibility(View.VISIBLE);
+                } else {
+                    watchProgress.setVisibility(View.GONE);
+                }
+            }
+
             // Poster
             if (result.posterUrl != null && !result.posterUrl.isEmpty()) {
                 // Fix 403: Add Headers (Cookie, UA, Referer)
@@ -8,6 +8,7 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Transformations;
 
+import com.omarflex5.data.search.SearchResult;
 import com.omarflex5.data.search.UnifiedSearchService;
 
 import java.util.List;
@@ -36,7 +37,7 @@ public class SearchViewModel extends AndroidViewModel {
     /**
      * Get search results from current state.
      */
-    public LiveData<List<UnifiedSearchService.SearchResult>> getResults() {
+    public LiveData<List<SearchResult>> getResults() {
         return Transformations.map(searchService.getSearchState(), state -> {
             if (state != null) {
                 return state.results;
@@ -69,6 +69,7 @@ public class SnifferActivity extends AppCompatActivity {
     public static final int STRATEGY_CLOUDFLARE = 2;
 
     private WebView webView;
+    private com.omarflex5.data.scraper.WebViewPool.Lease webViewLease;
     private TextView statusText;
     private ProgressBar statusProgress;
     private ImageButton btnClose;
@@ -148,12 +149,13 @@ public class SnifferActivity extends AppCompatActivity {
             targetUrl = rawUrl;
         }
 
-        // ONE WEBVIEW ARCHITECTURE:
-        // Borrow the persistent WebView from ScraperManager.
-        // This ensures cookies/CF tokens are shared perfectly.
+        // POOLED WEBVIEW ARCHITECTURE:
+        // Lease a pooled WebView from ScraperManager.
+        // All pooled views share the CookieManager, so CF tokens carry over.
         com.omarflex5.data.scraper.WebViewScraperManager scraperManager = com.omarflex5.data.scraper.WebViewScraperManager
                 .getInstance(this);
-        webView = scraperManager.borrowWebView();
+        webViewLease = scraperManager.leaseWebView();
+        webView = webViewLease.getWebView();
 
         if (webView.getParent() != null) {
             ((android.view.ViewGroup) webView.getParent()).removeView(webView);
@@ -583,9 +585,10 @@ public class SnifferActivity extends AppCompatActivity {
             // STOP loading and detach
             webView.stopLoading();
 
-            // ONE WEBVIEW ARCHITECTURE:
-            // Return to manager instead of destroying
-            com.omarflex5.data.scraper.WebViewScraperManager.getInstance(this).returnWebView(webView);
+            // POOLED WEBVIEW ARCHITECTURE:
+            // Return the lease to the pool instead of destroying
+            com.omarflex5.data.scraper.WebViewScraperManager.getInstance(this).returnWebView(webViewLease);
+            webViewLease = null;
             webView = null;
         }
 
@@ -735,12 +738,8 @@ public class SnifferActivity extends AppCompatActivity {
         Log.d(TAG, "OkHttp Fetch - Extra Headers: " + extraHeaders);
 
         // 2. Build Request
-        // Note: Using a new client or shared one. Ideally shared but for now new one is
-        // fine as cookies are passed via header.
-        OkHttpClient client = new OkHttpClient.Builder()
-                .followRedirects(true)
-                .followSslRedirects(true)
-                .build();
+        // Shared engine client; cookies are passed via header.
+        OkHttpClient client = com.omarflex5.data.network.HttpEngine.getInstance().client();
 
         Request.Builder builder = new Request.Builder()
                 .url(url)
@@ -0,0 +1,88 @@
+package com.omarflex5.util;
+
+import java.util.Locale;
+
+/**
+ * Folds Arabic spelling variants so "أحمد", "احمد" and "أَحْمَد" compare equal.
+ *
+ * - hamza/madda alef forms -> bare alef
+ * - alef maksura -> yaa, taa marbuta -> haa
+ * - hamza on waw/yaa -> waw/yaa
+ * - harakat, superscript alef and tatweel are dropped
+ *
+ * The same rules are exposed as a SQL expression so the FTS index
+ * (media_fts) and the queries against it fold identically.
+ */
+public final class ArabicFolding {
+
+    private static final String FOLD_FROM = "أإآٱىةؤئ";
+    private static final String FOLD_TO = "اااايهوي";
+    private static final String STRIPPED = "ًٌٍَُِّْٰـ";
+
+    private ArabicFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null)
+            return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldChar(text.charAt(i));
+            if (c != 0) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fold a single character (no case folding). Returns 0 for characters
+     * that are dropped.
+     */
+    public static char foldChar(char c) {
+        if (c < '\u0622' || c > '\u0671')
+            return c; // Outside the folded range, fast path for Latin text
+        int folded = FOLD_FROM.indexOf(c);
+        if (folded >= 0)
+            return FOLD_TO.charAt(folded);
+        return STRIPPED.indexOf(c) >= 0 ? 0 : c;
+    }
+
+    /**
+     * SQL expression applying fold() to a column (case folding is left to
+     * the unicode61 tokenizer).
+     */
+    public static String sqlFold(String column) {
+        String expr = column;
+        for (int i = 0; i < FOLD_FROM.length(); i++) {
+            expr = "replace(" + expr + ", '" + FOLD_FROM.charAt(i) + "', '" + FOLD_TO.charAt(i) + "')";
+        }
+        for (int i = 0; i < STRIPPED.length(); i++) {
+            expr = "replace(" + expr + ", '" + STRIPPED.charAt(i) + "', '')";
+        }
+        return expr;
+    }
+
+    /**
+     * Build an FTS MATCH expression where every word of the user input is a
+     * prefix term ("spider ma" -> "spider* ma*"). Returns null when the
+     * input has no searchable characters.
+     */
+    public static String toPrefixMatch(String query) {
+        String folded = fold(query);
+        StringBuilder match = new StringBuilder();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (match.length() > 0)
+                    match.append(' ');
+                match.append(folded, start, i).append('*');
+                start = -1;
+            }
+        }
+        return match.length() > 0 ? match.toString() : null;
+    }
+}
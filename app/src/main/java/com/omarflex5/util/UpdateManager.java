@@ -35,7 +35,8 @@ public class UpdateManager {
     private Gson gson;
 
     private UpdateManager() {
-        client = new OkHttpClient();
+        client = com.omarflex5.data.network.HttpEngine.getInstance()
+                .client(com.omarflex5.data.network.HttpEngine.Priority.BACKGROUND);
         gson = new com.google.gson.GsonBuilder().setLenient().create();
     }
 
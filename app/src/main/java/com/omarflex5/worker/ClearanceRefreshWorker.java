@@ -0,0 +1,143 @@
+package com.omarflex5.worker;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.omarflex5.data.local.AppDatabase;
+import com.omarflex5.data.local.entity.ServerEntity;
+import com.omarflex5.data.network.CancellationToken;
+import com.omarflex5.data.scraper.WebViewScraperManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic worker that renews Cloudflare clearance before it runs out, so
+ * searches on protected servers take the fast path instead of waiting on the
+ * queued WebView.
+ *
+ * Flow:
+ * 1. Runs hourly, only while the device is idle and on an unmetered network
+ * 2. Picks searchable servers with requiresWebView whose cfCookiesExpireAt is
+ * missing or falls before the next run (plus flex)
+ * 3. Renews them one at a time through WebViewScraperManager.refreshClearance
+ * (the headless loadWithCfBypass flow on a clean host), which saves the new
+ * cookies and expiry
+ */
+public class ClearanceRefreshWorker extends Worker {
+
+    private static final String TAG = "ClearanceRefreshWorker";
+    private static final String WORK_NAME = "clearance_refresh";
+
+    private static final long PERIOD_MINUTES = 60;
+    // Renew anything that would expire before the next run could
+    private static final long REFRESH_AHEAD_MS = TimeUnit.MINUTES.toMillis(PERIOD_MINUTES + 15);
+    // The CF wait adapts to the server, up to MAX_CF_WAIT_TIMEOUT_MS; leave
+    // room for the pool and the extraction
+    private static final long PER_SERVER_TIMEOUT_MS = WebViewScraperManager.MAX_CF_WAIT_TIMEOUT_MS
+            + TimeUnit.SECONDS.toMillis(45);
+
+    private volatile CancellationToken currentToken;
+
+    public ClearanceRefreshWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Schedule the periodic refresh. Safe to call on every app start.
+     */
+    public static void schedule(Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresDeviceIdle(true)
+                .build();
+
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(ClearanceRefreshWorker.class,
+                PERIOD_MINUTES, TimeUnit.MINUTES)
+                .setConstraints(constraints)
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(WORK_NAME, ExistingPeriodicWorkPolicy.KEEP,
+                request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        List<ServerEntity> servers = AppDatabase.getInstance(getApplicationContext()).serverDao()
+                .getSearchableByPriority();
+        WebViewScraperManager manager = WebViewScraperManager.getInstance(getApplicationContext());
+        long deadline = System.currentTimeMillis() + REFRESH_AHEAD_MS;
+
+        int renewed = 0;
+        for (ServerEntity server : servers) {
+            if (isStopped())
+                break;
+            if (!server.isRequiresWebView())
+                continue;
+            Long expiresAt = server.getCfCookiesExpireAt();
+            if (expiresAt != null && expiresAt > deadline)
+                continue;
+
+            Log.d(TAG, "Renewing clearance for " + server.getName() + " (expires at " + expiresAt + ")");
+            if (refresh(manager, server))
+                renewed++;
+        }
+
+        Log.d(TAG, "doWork: Renewed " + renewed + " clearances.");
+        return Result.success();
+    }
+
+    private boolean refresh(WebViewScraperManager manager, ServerEntity server) {
+        CancellationToken token = new CancellationToken();
+        currentToken = token;
+        CountDownLatch latch = new CountDownLatch(1);
+        boolean[] ok = new boolean[1];
+
+        manager.refreshClearance(server, token, new WebViewScraperManager.ScraperCallback() {
+            @Override
+            public void onSuccess(String html, Map<String, String> cookies) {
+                ok[0] = true;
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                Log.w(TAG, "Clearance refresh failed for " + server.getName() + ": " + message);
+                latch.countDown();
+            }
+        });
+
+        try {
+            if (!latch.await(PER_SERVER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                Log.w(TAG, "Clearance refresh timed out for " + server.getName());
+                token.cancel();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            token.cancel();
+        } finally {
+            currentToken = null;
+        }
+        return ok[0];
+    }
+
+    @Override
+    public void onStopped() {
+        super.onStopped();
+        CancellationToken token = currentToken;
+        if (token != null)
+            token.cancel();
+    }
+}
@@ -0,0 +1,139 @@
+package com.omarflex5.worker;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.omarflex5.data.local.entity.SearchQueueEntity;
+import com.omarflex5.data.network.CancellationToken;
+import com.omarflex5.data.search.UnifiedSearchService;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-shot worker that drains the persisted Cloudflare retry queue
+ * (search_queue rows of kind CF_RETRY), so searches that hit a challenge end
+ * up complete in the search cache even if the user never pressed "Load More"
+ * or the process died.
+ *
+ * Flow:
+ * 1. Scheduled by UnifiedSearchService after a search queued CF retries; runs
+ * after INITIAL_DELAY_MINUTES (leaving "Load More" the first go), on a
+ * connected network with enough battery
+ * 2. Retries pending rows one at a time through
+ * UnifiedSearchService.retryQueued (WebView fallback allowed), which merges
+ * the results into the cached list of the row's query
+ * 3. Rows older than MAX_AGE_MS are dropped as expired; the cache would not
+ * serve their query anymore
+ */
+public class SearchRetryWorker extends Worker {
+
+    private static final String TAG = "SearchRetryWorker";
+    private static final String WORK_NAME = "search_cf_retry";
+
+    private static final long INITIAL_DELAY_MINUTES = 2;
+    private static final long MAX_AGE_MS = TimeUnit.DAYS.toMillis(1);
+    // A CF solve takes up to 45s; leave room for the pool and the parse
+    private static final long PER_TASK_TIMEOUT_SECONDS = 90;
+
+    private volatile CancellationToken currentToken;
+
+    public SearchRetryWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Queue a drain. A run already in progress gets a follow-up run, so rows
+     * added while it works are not missed.
+     */
+    public static void schedule(Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .setRequiresBatteryNotLow(true)
+                .build();
+
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(SearchRetryWorker.class)
+                .setConstraints(constraints)
+                .setInitialDelay(INITIAL_DELAY_MINUTES, TimeUnit.MINUTES)
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(WORK_NAME, ExistingWorkPolicy.APPEND_OR_REPLACE,
+                request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        UnifiedSearchService service = UnifiedSearchService.getInstance(getApplicationContext());
+        List<SearchQueueEntity> pending = service.getPendingRetries();
+        long expiredBefore = System.currentTimeMillis() - MAX_AGE_MS;
+
+        int done = 0;
+        for (SearchQueueEntity item : pending) {
+            if (isStopped())
+                break;
+            if (item.getCreatedAt() < expiredBefore) {
+                Log.d(TAG, "Dropping expired retry for '" + item.getQuery() + "'");
+                service.expireRetry(item);
+                continue;
+            }
+            if (retry(service, item))
+                done++;
+        }
+
+        Log.d(TAG, "doWork: Merged " + done + "/" + pending.size() + " CF retries.");
+        return Result.success();
+    }
+
+    private boolean retry(UnifiedSearchService service, SearchQueueEntity item) {
+        CancellationToken token = new CancellationToken();
+        currentToken = token;
+        CountDownLatch latch = new CountDownLatch(1);
+        boolean[] ok = new boolean[1];
+
+        service.retryQueued(item, token, new UnifiedSearchService.RetryCallback() {
+            @Override
+            public void onComplete(int resultCount) {
+                ok[0] = true;
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                Log.w(TAG, "Retry failed for " + item.getUrl() + ": " + message);
+                latch.countDown();
+            }
+        });
+
+        try {
+            if (!latch.await(PER_TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Log.w(TAG, "Retry timed out for " + item.getUrl());
+                token.cancel();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            token.cancel();
+        } finally {
+            currentToken = null;
+        }
+        return ok[0];
+    }
+
+    @Override
+    public void onStopped() {
+        super.onStopped();
+        CancellationToken token = currentToken;
+        if (token != null)
+            token.cancel();
+    }
+}
@@ -0,0 +1,108 @@
+package com.omarflex5.data.network;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Record -> replay round trip of NetworkReplay against a fake origin that
+ * answers conditional requests with 304, like the live sites do for
+ * PageCache's revalidation.
+ */
+public class NetworkReplayTest {
+
+    private static final String URL = "http://replay.test/search?s=matrix";
+    private static final String PAGE = "<html><body><div class=\"Block\">Matrix</div></body></html>";
+    private static final String ETAG = "\"v1\"";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** Stand-in for the network: 200 with an ETag, 304 when it is sent back */
+    private static class FakeOrigin implements Interceptor {
+        final List<Request> seen = new ArrayList<>();
+
+        @Override
+        public Response intercept(Chain chain) {
+            Request request = chain.request();
+            seen.add(request);
+            Response.Builder builder = new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1);
+            if (ETAG.equals(request.header("If-None-Match"))) {
+                return builder.code(304).message("Not Modified")
+                        .body(ResponseBody.create(new byte[0], null))
+                        .build();
+            }
+            return builder.code(200).message("OK")
+                    .header("Content-Type", "text/html; charset=UTF-8")
+                    .header("ETag", ETAG)
+                    .body(ResponseBody.create(PAGE, MediaType.parse("text/html; charset=UTF-8")))
+                    .build();
+        }
+    }
+
+    private static OkHttpClient client(NetworkReplay replay, Interceptor origin) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder().addInterceptor(replay);
+        if (origin != null)
+            builder.addInterceptor(origin);
+        return builder.build();
+    }
+
+    private static NetworkReplay.Config config(NetworkReplay.Mode mode) {
+        NetworkReplay.Config config = new NetworkReplay.Config();
+        config.mode = mode;
+        return config;
+    }
+
+    @Test
+    public void conditionalRequestDoesNotOverwriteRecording() throws IOException {
+        ReplayStore store = new ReplayStore(folder.newFolder("store"));
+        FakeOrigin origin = new FakeOrigin();
+        OkHttpClient recorder = client(new NetworkReplay(store, config(NetworkReplay.Mode.RECORD)), origin);
+
+        try (Response cold = recorder.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertEquals(200, cold.code());
+            assertEquals(PAGE, cold.body().string());
+        }
+        // PageCache revalidation of the entry it just stored
+        Request revalidation = new Request.Builder().url(URL).header("If-None-Match", ETAG).build();
+        try (Response revalidated = recorder.newCall(revalidation).execute()) {
+            assertEquals(200, revalidated.code());
+        }
+        assertNull(origin.seen.get(1).header("If-None-Match"));
+
+        // Replay without an origin: anything not recorded would be a 504
+        OkHttpClient replayer = client(new NetworkReplay(store, config(NetworkReplay.Mode.REPLAY)), null);
+        try (Response replayed = replayer.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertEquals(200, replayed.code());
+            assertEquals(ETAG, replayed.header("ETag"));
+            assertEquals(PAGE, replayed.body().string());
+        }
+    }
+
+    @Test
+    public void missWithoutPassthroughIs504() throws IOException {
+        ReplayStore store = new ReplayStore(folder.newFolder("store"));
+        OkHttpClient replayer = client(new NetworkReplay(store, config(NetworkReplay.Mode.REPLAY)), null);
+
+        try (Response response = replayer.newCall(new Request.Builder().url(URL).build()).execute()) {
+            assertEquals(504, response.code());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+// Pure-JVM JMH harness for the scraper parsers.
+// Run with: ./gradlew :benchmarks:jmh
+plugins {
+    `java`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// The parsers (and the search merge index) are compiled straight from the
+// app sources. They only need Jsoup, org.json and android.util.Log, which is
+// stubbed in src/main.
+val parserSources = tasks.register<Sync>("syncParserSources") {
+    from("../app/src/main/java") {
+        include("com/omarflex5/data/scraper/BaseHtmlParser.java")
+        include("com/omarflex5/data/scraper/parsers/**")
+        include("com/omarflex5/data/scraper/util/TitleNormalizer.java")
+        include("com/omarflex5/data/local/entity/MediaType.java")
+        include("com/omarflex5/util/ArabicFolding.java")
+        include("com/omarflex5/util/UrlHelper.java")
+        include("com/omarflex5/data/search/SearchMergeIndex.java")
+        include("com/omarflex5/data/search/SearchResult.java")
+        include("com/omarflex5/data/search/SourceInfo.java")
+    }
+    into(layout.buildDirectory.dir("generated/parserSources"))
+}
+
+sourceSets {
+    main {
+        java.srcDir(parserSources)
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    implementation(libs.jsoup)
+    implementation(libs.org.json)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
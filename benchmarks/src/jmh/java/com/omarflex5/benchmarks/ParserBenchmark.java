@@ -0,0 +1,107 @@
+package com.omarflex5.benchmarks;
+
+import com.omarflex5.data.scraper.BaseHtmlParser;
+import com.omarflex5.data.scraper.parsers.AkwamParser;
+import com.omarflex5.data.scraper.parsers.ArabSeedParser;
+import com.omarflex5.data.scraper.parsers.FaselHdParser;
+import com.omarflex5.data.scraper.parsers.MyCimaParser;
+import com.omarflex5.data.scraper.parsers.OldAkwamParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each server parser against the pages in
+ * src/jmh/resources/fixtures/&lt;server&gt;/ (search.html and detail.html).
+ *
+ * Parsers are built the same way ParserFactory builds them, so a fresh
+ * parser (and a fresh Jsoup parse) is part of every operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParserBenchmark {
+
+    @Param({ "mycima", "faselhd", "arabseed", "akwam", "oldakwam" })
+    public String server;
+
+    private String searchHtml;
+    private String searchUrl;
+    private String detailHtml;
+    private String detailUrl;
+
+    @Setup
+    public void loadFixtures() throws IOException {
+        searchHtml = readFixture(server + "/search.html");
+        detailHtml = readFixture(server + "/detail.html");
+        searchUrl = readFixture(server + "/search.url").trim();
+        detailUrl = readFixture(server + "/detail.url").trim();
+    }
+
+    @Benchmark
+    public List<BaseHtmlParser.ParsedItem> parseSearchResults() {
+        return newParser(searchHtml, searchUrl).parseSearchResults();
+    }
+
+    @Benchmark
+    public BaseHtmlParser.ParsedSearchResult parseSearchResultsWithPagination() {
+        return newParser(searchHtml, searchUrl).parseSearchResultsWithPagination();
+    }
+
+    @Benchmark
+    public BaseHtmlParser.ParsedItem parseDetailPage() {
+        return newParser(detailHtml, detailUrl).parseDetailPage();
+    }
+
+    private BaseHtmlParser newParser(String html, String url) {
+        BaseHtmlParser parser;
+        switch (server) {
+            case "mycima":
+                parser = new MyCimaParser(html);
+                break;
+            case "faselhd":
+                parser = new FaselHdParser(html);
+                break;
+            case "arabseed":
+                parser = new ArabSeedParser(html);
+                break;
+            case "akwam":
+                parser = new AkwamParser(html, url);
+                break;
+            case "oldakwam":
+                parser = new OldAkwamParser(html, url);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown server: " + server);
+        }
+        parser.setPageUrl(url);
+        return parser;
+    }
+
+    private static String readFixture(String name) throws IOException {
+        try (InputStream in = ParserBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null)
+                throw new IOException("Missing fixture: " + name);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8.name());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.omarflex5.benchmarks;
+
+import com.omarflex5.data.scraper.util.TitleNormalizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TitleNormalizer against the replaceAll chains it replaced in
+ * BaseHtmlParser, over the card titles in fixtures/titles.txt. One
+ * operation handles the whole list (stripHtml, cleanTitle, match key).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TitleNormalizerBenchmark {
+
+    private final List<String> titles = new ArrayList<>();
+
+    @Setup
+    public void loadTitles() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/titles.txt")) {
+            if (in == null)
+                throw new IOException("Missing fixture: titles.txt");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && !line.startsWith("#"))
+                    titles.add(line);
+            }
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        for (String raw : titles) {
+            String title = TitleNormalizer.cleanTitle(TitleNormalizer.stripHtml(raw));
+            bh.consume(title);
+            bh.consume(TitleNormalizer.matchKey(title, 2023, null, null));
+        }
+    }
+
+    @Benchmark
+    public void legacyReplaceAll(Blackhole bh) {
+        for (String raw : titles) {
+            String title = legacyCleanTitle(legacyStripHtml(raw));
+            bh.consume(title);
+            bh.consume(legacyMatchKey(title, 2023, null, null));
+        }
+    }
+
+    // ==================== PREVIOUS IMPLEMENTATION ====================
+
+    private static String legacyStripHtml(String html) {
+        return html.replaceAll("<[^>]+>", "")
+                .replaceAll("&nbsp;", " ")
+                .replaceAll("&amp;", "&")
+                .replaceAll("&lt;", "<")
+                .replaceAll("&gt;", ">")
+                .replaceAll("&#\\d+;", "")
+                .trim();
+    }
+
+    private static String legacyCleanTitle(String title) {
+        return title
+                .replaceAll("\\(\\d{4}\\)", "")
+                .replaceAll("(?i)\\s*مترجم\\s*", "")
+                .replaceAll("(?i)\\s*مدبلج\\s*", "")
+                .replaceAll("(?i)\\s*HD\\s*", "")
+                .replaceAll("(?i)\\s*BluRay\\s*", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String legacyMatchKey(String title, Integer year, Integer season, Integer episode) {
+        String normalized = title.toLowerCase()
+                .replaceAll("[^a-z0-9\\u0600-\\u06FF]", "")
+                .trim();
+        StringBuilder key = new StringBuilder(normalized);
+        key.append("|").append(year != null ? year : "");
+        key.append("|").append(season != null ? season : "");
+        key.append("|").append(episode != null ? episode : "");
+        return key.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.omarflex5.data.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchMergeIndex against the deduplicateResults rebuild it replaced, over
+ * synthetic result pages: SERVERS servers x PAGES pages of PAGE_SIZE cards,
+ * drawn from a shared title pool so most titles show up on several servers.
+ *
+ * One operation merges every page in arrival order (page 1 of each server,
+ * then page 2, ...) and takes the snapshot the UI would get after each one.
+ *
+ * Lives in the app's package because SearchMergeIndex is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchMergeIndexBenchmark {
+
+    private static final int SERVERS = 5;
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 20;
+    private static final int TITLE_POOL = 400;
+
+    private final List<List<SearchResult>> pages = new ArrayList<>();
+
+    @Setup
+    public void buildPages() {
+        Random random = new Random(42);
+        for (int page = 0; page < PAGES; page++) {
+            for (int server = 0; server < SERVERS; server++) {
+                List<SearchResult> results = new ArrayList<>(PAGE_SIZE);
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    int title = random.nextInt(TITLE_POOL);
+                    SearchResult result = new SearchResult();
+                    result.title = "Title " + title;
+                    result.pageUrl = "https://server" + server + ".test/watch/" + title + "-" + page + "-" + i;
+                    result.serverId = server;
+                    result.serverName = "server" + server;
+                    result.serverLabel = "Server " + server;
+                    result.year = 2000 + title % 25;
+                    // A few cards have no year/title to key on
+                    result.matchKey = title % 20 == 0 ? null : "title" + title + "|" + result.year + "||";
+                    results.add(result);
+                }
+                pages.add(results);
+            }
+        }
+    }
+
+    /** The legacy merge adds alternatives in place; start every run clean */
+    @Setup(Level.Invocation)
+    public void resetAlternatives() {
+        for (List<SearchResult> page : pages) {
+            for (SearchResult result : page) {
+                result.alternativeSources = null;
+            }
+        }
+    }
+
+    @Benchmark
+    public void incrementalIndex(Blackhole bh) {
+        SearchMergeIndex index = new SearchMergeIndex();
+        for (List<SearchResult> page : pages) {
+            index.addAll(page);
+            bh.consume(index.snapshotIfChanged());
+        }
+    }
+
+    @Benchmark
+    public void legacyRebuild(Blackhole bh) {
+        List<SearchResult> accumulated = new ArrayList<>();
+        for (List<SearchResult> page : pages) {
+            accumulated.addAll(page);
+            bh.consume(legacyDeduplicate(accumulated));
+        }
+    }
+
+    // ==================== PREVIOUS IMPLEMENTATION ====================
+
+    private static List<SearchResult> legacyDeduplicate(List<SearchResult> results) {
+        Map<String, SearchResult> seen = new HashMap<>();
+        List<SearchResult> deduped = new ArrayList<>();
+
+        for (SearchResult result : results) {
+            String key = result.matchKey;
+            if (key == null || key.isEmpty()) {
+                deduped.add(result);
+            } else if (!seen.containsKey(key)) {
+                seen.put(key, result);
+                deduped.add(result);
+            } else {
+                SearchResult existing = seen.get(key);
+                if (existing.alternativeSources == null) {
+                    existing.alternativeSources = new ArrayList<>();
+                }
+                existing.alternativeSources.add(new SourceInfo(
+                        result.serverId, result.serverName, result.serverLabel, result.pageUrl));
+            }
+        }
+
+        return deduped;
+    }
+}
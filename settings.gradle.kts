@@ -22,4 +22,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "omarFlex5"
 include(":app")
- 
\ No newline at end of file
+include(":benchmarks")